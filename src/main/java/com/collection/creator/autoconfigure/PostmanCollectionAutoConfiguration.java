@@ -1,18 +1,34 @@
 package com.collection.creator.autoconfigure;
 
 import com.collection.creator.config.PostmanCollectionProperties;
+import com.collection.creator.metrics.GenerationMetrics;
+import com.collection.creator.metrics.MicrometerGenerationMetrics;
+import com.collection.creator.sampling.RequestSampleStore;
+import com.collection.creator.sampling.SampleRedactor;
+import com.collection.creator.sampling.TrafficSamplingFilter;
 import com.collection.creator.service.PostmanCollectionService;
+import com.collection.creator.writer.CollectionWriter;
+import com.collection.creator.writer.HarWriter;
+import com.collection.creator.writer.OpenApiWriter;
+import com.collection.creator.writer.PostmanCollectionAggregator;
+import com.collection.creator.writer.PostmanCollectionWriter;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
 import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
 
 /**
@@ -41,7 +57,7 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
  * }
  * </pre>
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
 @ConditionalOnWebApplication
 @ConditionalOnClass({RequestMappingHandlerMapping.class, ObjectMapper.class})
 @ConditionalOnProperty(
@@ -69,12 +85,75 @@ public class PostmanCollectionAutoConfiguration {
         return new ObjectMapper();
     }
 
+    /**
+     * Writer for Postman Collection v2.0.0 output (format {@code postman-v2.0}).
+     *
+     * <p>The writer beans back off by name, since several share a type; declare a bean with the
+     * same name to replace one.
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "postmanCollectionV20Writer")
+    public PostmanCollectionWriter postmanCollectionV20Writer(PostmanCollectionProperties properties,
+                                                             ObjectMapper objectMapper) {
+        return new PostmanCollectionWriter(properties, objectMapper, false);
+    }
+
+    /**
+     * Writer for Postman Collection v2.1.0 output (format {@code postman-v2.1}).
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "postmanCollectionV21Writer")
+    public PostmanCollectionWriter postmanCollectionV21Writer(PostmanCollectionProperties properties,
+                                                             ObjectMapper objectMapper) {
+        return new PostmanCollectionWriter(properties, objectMapper, true);
+    }
+
+    /**
+     * Writer for OpenAPI 3 YAML output (format {@code openapi-yaml}), only when SnakeYAML is present.
+     */
+    @Bean
+    @ConditionalOnClass(name = "org.yaml.snakeyaml.Yaml")
+    @ConditionalOnMissingBean(name = "postmanOpenApiYamlWriter")
+    public OpenApiWriter postmanOpenApiYamlWriter(ObjectMapper objectMapper) {
+        return new OpenApiWriter(objectMapper, true);
+    }
+
+    /**
+     * Writer for OpenAPI 3 JSON output (format {@code openapi-json}).
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "postmanOpenApiJsonWriter")
+    public OpenApiWriter postmanOpenApiJsonWriter(ObjectMapper objectMapper) {
+        return new OpenApiWriter(objectMapper, false);
+    }
+
+    /**
+     * Writer for HAR 1.2 output (format {@code har}).
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "postmanHarWriter")
+    public HarWriter postmanHarWriter(ObjectMapper objectMapper) {
+        return new HarWriter(objectMapper);
+    }
+
+    /**
+     * Aggregator that stream-merges the collections of several services into one.
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public PostmanCollectionAggregator postmanCollectionAggregator(ObjectMapper objectMapper) {
+        return new PostmanCollectionAggregator(objectMapper);
+    }
+
     /**
      * Create the PostmanCollectionService bean.
      *
      * <p>This service can be injected and used programmatically by the host application
      * to generate Postman collections from REST endpoints.
      *
+     * <p>All {@link CollectionWriter} beans are handed to the service, so an application can add
+     * a format by declaring its own writer bean.
+     *
      * <p>Example usage:
      * <pre>
      * {@code @Autowired}
@@ -90,9 +169,59 @@ public class PostmanCollectionAutoConfiguration {
     public PostmanCollectionService postmanCollectionService(
             ApplicationContext applicationContext,
             PostmanCollectionProperties properties,
-            ObjectMapper objectMapper) {
+            ObjectMapper objectMapper,
+            ObjectProvider<CollectionWriter> writers) {
         logger.info("Creating PostmanCollectionService bean for programmatic access");
-        return new PostmanCollectionService(applicationContext, properties, objectMapper);
+        return new PostmanCollectionService(applicationContext, properties, objectMapper,
+                writers.orderedStream().toList());
     }
-}
 
+    /**
+     * Traffic sampling, registered only when
+     * {@code postman.collection.generator.sampling.enabled=true}.
+     *
+     * <p>Samples feed the generated bodies, query strings and saved examples.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnProperty(prefix = "postman.collection.generator.sampling", name = "enabled", havingValue = "true")
+    static class TrafficSamplingConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public RequestSampleStore requestSampleStore(PostmanCollectionProperties properties) {
+            return new RequestSampleStore(properties.getSampling().getBufferSize());
+        }
+
+        @Bean
+        public FilterRegistrationBean<TrafficSamplingFilter> trafficSamplingFilter(
+                PostmanCollectionProperties properties,
+                RequestSampleStore requestSampleStore,
+                ObjectMapper objectMapper) {
+            PostmanCollectionProperties.Sampling sampling = properties.getSampling();
+            logger.info("Registering traffic sampling filter with rate {}", sampling.getRate());
+
+            SampleRedactor redactor = new SampleRedactor(objectMapper, sampling.getRedactedFields());
+            FilterRegistrationBean<TrafficSamplingFilter> registration = new FilterRegistrationBean<>(
+                    new TrafficSamplingFilter(requestSampleStore, redactor, sampling.getRate(), sampling.getMaxBodySize()));
+            // Run after security and other application filters
+            registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+            return registration;
+        }
+    }
+
+    /**
+     * Generation metrics, registered when Micrometer and a {@link MeterRegistry} are available.
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(MeterRegistry.class)
+    static class GenerationMetricsConfiguration {
+
+        @Bean
+        @ConditionalOnBean(MeterRegistry.class)
+        @ConditionalOnMissingBean(GenerationMetrics.class)
+        public MicrometerGenerationMetrics postmanCollectionGenerationMetrics(MeterRegistry meterRegistry) {
+            return new MicrometerGenerationMetrics(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.collection.creator.catalog;
+
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.model.Item;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Immutable, thread-safe in-memory catalog of endpoints and their Postman items, for answering
+ * queries such as "POST endpoints under {@code /api/orders/**}" without generating a collection.
+ *
+ * <p>Paths are stored in a trie of interned path segments. Endpoints are numbered in depth-first
+ * order of the trie, so every subtree owns a contiguous range of ids and a {@code **} query is a
+ * single range. Secondary indexes map each HTTP method and controller, by simple and by fully
+ * qualified class name, to a {@link BitSet} of ids, and a query is the intersection of the
+ * matching ranges with those sets. Results come out in path order and are paged by walking the
+ * set bits.
+ */
+public final class EndpointCatalog {
+
+    private static final Interner<String> SEGMENTS = Interners.newWeakInterner();
+
+    private static final BitSet NONE = new BitSet();
+
+    private final Node root;
+    private final Item[] items;
+    private final Map<String, BitSet> byMethod;
+    private final Map<String, BitSet> byController;
+
+    private EndpointCatalog(Node root, Item[] items, Map<String, BitSet> byMethod, Map<String, BitSet> byController) {
+        this.root = root;
+        this.items = items;
+        this.byMethod = byMethod;
+        this.byController = byController;
+    }
+
+    /**
+     * Build a catalog; {@code items.get(i)} is the Postman item of {@code endpoints.get(i)}.
+     */
+    public static EndpointCatalog build(List<EndpointDefinition> endpoints, List<Item> items) {
+        if (endpoints.size() != items.size()) {
+            throw new IllegalArgumentException("Expected one item per endpoint, got " + items.size()
+                    + " items for " + endpoints.size() + " endpoints");
+        }
+
+        Node root = new Node();
+        for (int i = 0; i < endpoints.size(); i++) {
+            Node node = root;
+            for (String segment : segments(endpoints.get(i).getPath())) {
+                node = node.children.computeIfAbsent(SEGMENTS.intern(segment), key -> new Node());
+            }
+            node.endpoints.add(i);
+        }
+
+        Item[] orderedItems = new Item[endpoints.size()];
+        Map<String, BitSet> byMethod = new HashMap<>();
+        Map<String, BitSet> byController = new HashMap<>();
+        int[] nextId = {0};
+        assignIds(root, endpoints, (id, index) -> {
+            EndpointDefinition endpoint = endpoints.get(index);
+            orderedItems[id] = items.get(index);
+            byMethod.computeIfAbsent(StringUtils.upperCase(endpoint.getMethod()), key -> new BitSet()).set(id);
+            if (endpoint.getController() != null) {
+                byController.computeIfAbsent(endpoint.getController(), key -> new BitSet()).set(id);
+            }
+            if (endpoint.getControllerClass() != null) {
+                byController.computeIfAbsent(endpoint.getControllerClass(), key -> new BitSet()).set(id);
+            }
+        }, nextId);
+        return new EndpointCatalog(root, orderedItems, byMethod, byController);
+    }
+
+    /**
+     * Depth-first numbering: a node's own endpoints by method, then its children in segment order.
+     */
+    private static void assignIds(Node node, List<EndpointDefinition> endpoints, IdConsumer consumer, int[] nextId) {
+        node.first = nextId[0];
+        node.endpoints.sort(Comparator.comparing(index -> StringUtils.defaultString(endpoints.get(index).getMethod())));
+        for (int index : node.endpoints) {
+            consumer.accept(nextId[0]++, index);
+        }
+        node.ownEnd = nextId[0];
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            assignIds(child.getValue(), endpoints, consumer, nextId);
+            if (child.getKey().startsWith("{")) {
+                node.templateChildren.add(child.getValue());
+            }
+        }
+        node.end = nextId[0];
+        node.endpoints = Collections.emptyList();
+    }
+
+    /**
+     * Run a query and return the requested page.
+     */
+    public EndpointPage query(EndpointQuery query) {
+        BitSet matches = new BitSet(items.length);
+        if (query.getPath() == null) {
+            matches.set(0, items.length);
+        } else {
+            String[] segments = segments(query.getPath());
+            for (int i = 0; i < segments.length - 1; i++) {
+                if ("**".equals(segments[i])) {
+                    throw new IllegalArgumentException("'**' is only supported as the last segment: " + query.getPath());
+                }
+            }
+            match(root, segments, 0, matches);
+        }
+        if (query.getMethod() != null) {
+            matches.and(byMethod.getOrDefault(StringUtils.upperCase(query.getMethod()), NONE));
+        }
+        if (query.getController() != null) {
+            matches.and(byController.getOrDefault(query.getController(), NONE));
+        }
+
+        int total = matches.cardinality();
+        long offset = (long) query.getPage() * query.getSize();
+        List<Item> page = new ArrayList<>(Math.min(query.getSize(), total));
+        int id = matches.nextSetBit(0);
+        for (long skipped = 0; skipped < offset && id >= 0; skipped++) {
+            id = matches.nextSetBit(id + 1);
+        }
+        while (id >= 0 && page.size() < query.getSize()) {
+            page.add(items[id]);
+            id = matches.nextSetBit(id + 1);
+        }
+        return new EndpointPage(page, query.getPage(), query.getSize(), total);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    private static void match(Node node, String[] segments, int index, BitSet matches) {
+        if (index == segments.length) {
+            matches.set(node.first, node.ownEnd);
+            return;
+        }
+        String segment = segments[index];
+        if ("**".equals(segment)) {
+            matches.set(node.first, node.end);
+        } else if ("*".equals(segment)) {
+            for (Node child : node.children.values()) {
+                match(child, segments, index + 1, matches);
+            }
+        } else {
+            Node child = node.children.get(segment);
+            if (child != null) {
+                match(child, segments, index + 1, matches);
+            }
+            for (Node template : node.templateChildren) {
+                if (template != child) {
+                    match(template, segments, index + 1, matches);
+                }
+            }
+        }
+    }
+
+    private static String[] segments(String path) {
+        return StringUtils.split(StringUtils.defaultString(path), '/');
+    }
+
+    @FunctionalInterface
+    private interface IdConsumer {
+        void accept(int id, int index);
+    }
+
+    /**
+     * Trie node for one path segment; ids in [first, ownEnd) end here, [first, end) are below it.
+     */
+    private static final class Node {
+        private final TreeMap<String, Node> children = new TreeMap<>();
+        private final List<Node> templateChildren = new ArrayList<>(0);
+        private List<Integer> endpoints = new ArrayList<>(1);
+        private int first;
+        private int ownEnd;
+        private int end;
+    }
+}
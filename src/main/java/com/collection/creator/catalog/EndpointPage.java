@@ -0,0 +1,47 @@
+package com.collection.creator.catalog;
+
+import com.collection.creator.model.Item;
+
+import java.util.List;
+
+/**
+ * One page of catalog query results, sorted by path and then HTTP method.
+ */
+public final class EndpointPage {
+
+    private final List<Item> items;
+    private final int page;
+    private final int size;
+    private final int total;
+
+    EndpointPage(List<Item> items, int page, int size, int total) {
+        this.items = List.copyOf(items);
+        this.page = page;
+        this.size = size;
+        this.total = total;
+    }
+
+    // Getters
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Number of matching endpoints over all pages.
+     */
+    public int getTotal() {
+        return total;
+    }
+
+    public boolean hasNext() {
+        return (long) (page + 1) * size < total;
+    }
+}
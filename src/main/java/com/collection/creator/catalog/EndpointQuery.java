@@ -0,0 +1,112 @@
+package com.collection.creator.catalog;
+
+/**
+ * Immutable query against an {@link EndpointCatalog}. All criteria are optional and combined with AND.
+ *
+ * <p>The path pattern is matched segment by segment: {@code *} matches one segment, a trailing
+ * {@code **} matches any number of segments, and a literal segment also matches a path variable
+ * such as {@code {id}}, so {@code /api/orders/42} finds {@code /api/orders/{id}}.
+ */
+public final class EndpointQuery {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    private final String path;
+    private final String method;
+    private final String controller;
+    private final int page;
+    private final int size;
+
+    private EndpointQuery(Builder builder) {
+        if (builder.page < 0) {
+            throw new IllegalArgumentException("Page must not be negative: " + builder.page);
+        }
+        if (builder.size < 1) {
+            throw new IllegalArgumentException("Page size must be positive: " + builder.size);
+        }
+        this.path = builder.path;
+        this.method = builder.method;
+        this.controller = builder.controller;
+        this.page = builder.page;
+        this.size = builder.size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public String getPath() {
+        return path;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getController() {
+        return controller;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public static final class Builder {
+        private String path;
+        private String method;
+        private String controller;
+        private int page = 0;
+        private int size = DEFAULT_PAGE_SIZE;
+
+        private Builder() {
+        }
+
+        /**
+         * Path pattern, e.g. {@code /api/orders/**}.
+         */
+        public Builder path(String path) {
+            this.path = path;
+            return this;
+        }
+
+        /**
+         * HTTP method, case-insensitive.
+         */
+        public Builder method(String method) {
+            this.method = method;
+            return this;
+        }
+
+        /**
+         * Controller class name. A simple name such as {@code OrderController} matches every
+         * controller with that name, whatever its package; use the name returned by
+         * {@link Class#getName()}, e.g. {@code com.example.v2.OrderController}, to pick one.
+         */
+        public Builder controller(String controller) {
+            this.controller = controller;
+            return this;
+        }
+
+        /**
+         * Zero-based page number.
+         */
+        public Builder page(int page) {
+            this.page = page;
+            return this;
+        }
+
+        public Builder size(int size) {
+            this.size = size;
+            return this;
+        }
+
+        public EndpointQuery build() {
+            return new EndpointQuery(this);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.collection.creator.cli;
+
+import com.collection.creator.writer.AggregationInput;
+import com.collection.creator.writer.PostmanCollectionAggregator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line entry point for aggregating the collections of several services.
+ *
+ * <pre>
+ * java -cp creator.jar:... com.collection.creator.cli.AggregateCollectionsCommand \
+ *     --output platform.json --name "Platform API" orders=orders/collection.json billing.json
+ * </pre>
+ * Each input is {@code service=path} or a plain path, in which case the file name without
+ * extension is the service name. Inputs must be sorted by path and method (generate them with
+ * {@code postman.collection.generator.output.sorted=true}).
+ */
+public final class AggregateCollectionsCommand {
+
+    static final String DEFAULT_NAME = "Aggregated API Collection";
+
+    private static final String USAGE =
+            "Usage: AggregateCollectionsCommand --output <file> [--name <name>] [service=]<collection.json>...";
+
+    private AggregateCollectionsCommand() {
+    }
+
+    public static void main(String[] args) {
+        System.exit(run(args, System.err));
+    }
+
+    /**
+     * Run the command and return the exit code: 0 on success, 1 on I/O failure, 2 on bad usage.
+     */
+    static int run(String[] args, PrintStream err) {
+        String name = DEFAULT_NAME;
+        Path output = null;
+        List<AggregationInput> inputs = new ArrayList<>();
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--output", "-o" -> output = Path.of(value(args, ++i));
+                    case "--name", "-n" -> name = value(args, ++i);
+                    default -> inputs.add(AggregationInput.parse(args[i]));
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            err.println(e.getMessage());
+            err.println(USAGE);
+            return 2;
+        }
+        if (output == null || inputs.isEmpty()) {
+            err.println(USAGE);
+            return 2;
+        }
+
+        try {
+            new PostmanCollectionAggregator(new ObjectMapper()).aggregate(name, inputs, output);
+            return 0;
+        } catch (IOException e) {
+            err.println("Aggregation failed: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static String value(String[] args, int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value for " + args[index - 1]);
+        }
+        return args[index];
+    }
+}
@@ -2,6 +2,12 @@ package com.collection.creator.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Configuration properties for Postman Collection Generator.
  *
@@ -10,10 +16,26 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * postman.collection.generator.enabled=true
  * postman.collection.generator.output.directory=./
  * postman.collection.generator.output.filename=collection.json
+ * postman.collection.generator.output.formats=postman-v2.0,openapi-yaml,har
+ * postman.collection.generator.output.merge=false
+ * postman.collection.generator.output.sorted=false
  * postman.collection.generator.collection.name=API Collection
  * postman.collection.generator.authorization.header-name=Authorization
  * postman.collection.generator.authorization.header-value={{logintoken}}
  * postman.collection.generator.base-url=http://localhost:8080
+ * postman.collection.generator.environments.dev.base-url=http://localhost:8080
+ * postman.collection.generator.environments.prod.base-url=https://api.example.com
+ * postman.collection.generator.environments.prod.header-value=Bearer {{prodToken}}
+ * postman.collection.generator.environment-files=false
+ * postman.collection.generator.sampling.enabled=false
+ * postman.collection.generator.sampling.rate=0.01
+ * postman.collection.generator.generation.timeout=30s
+ * postman.collection.generator.generation.endpoint-timeout=2s
+ * postman.collection.generator.index.enabled=true
+ * postman.collection.generator.sla.enabled=false
+ * postman.collection.generator.sla.response-time=1s
+ * postman.collection.generator.sla.rules[0].pattern=/api/reports/**
+ * postman.collection.generator.sla.rules[0].response-time=5s
  * </pre>
  *
  * <p>This library provides only the {@link com.collection.creator.service.PostmanCollectionService}
@@ -49,6 +71,38 @@ public class PostmanCollectionProperties {
      */
     private String baseUrl = "";
 
+    /**
+     * Named environments (e.g. dev, staging, prod) generated together by
+     * generateEnvironmentCollections().
+     */
+    private Map<String, Environment> environments = new LinkedHashMap<>();
+
+    /**
+     * Write one collection using {{baseUrl}} and {{authorizationHeader}} variables plus a Postman
+     * environment file per environment, instead of one collection per environment.
+     */
+    private boolean environmentFiles = false;
+
+    /**
+     * Traffic sampling configuration.
+     */
+    private Sampling sampling = new Sampling();
+
+    /**
+     * Generation time budget configuration.
+     */
+    private Generation generation = new Generation();
+
+    /**
+     * Compile-time endpoint index configuration.
+     */
+    private Index index = new Index();
+
+    /**
+     * Response-time SLA test script configuration.
+     */
+    private Sla sla = new Sla();
+
     // Getters and Setters
 
     public boolean isEnabled() {
@@ -91,6 +145,54 @@ public class PostmanCollectionProperties {
         this.baseUrl = baseUrl;
     }
 
+    public Map<String, Environment> getEnvironments() {
+        return environments;
+    }
+
+    public void setEnvironments(Map<String, Environment> environments) {
+        this.environments = environments;
+    }
+
+    public boolean isEnvironmentFiles() {
+        return environmentFiles;
+    }
+
+    public void setEnvironmentFiles(boolean environmentFiles) {
+        this.environmentFiles = environmentFiles;
+    }
+
+    public Sampling getSampling() {
+        return sampling;
+    }
+
+    public void setSampling(Sampling sampling) {
+        this.sampling = sampling;
+    }
+
+    public Generation getGeneration() {
+        return generation;
+    }
+
+    public void setGeneration(Generation generation) {
+        this.generation = generation;
+    }
+
+    public Index getIndex() {
+        return index;
+    }
+
+    public void setIndex(Index index) {
+        this.index = index;
+    }
+
+    public Sla getSla() {
+        return sla;
+    }
+
+    public void setSla(Sla sla) {
+        this.sla = sla;
+    }
+
     /**
      * Output file configuration.
      */
@@ -105,6 +207,25 @@ public class PostmanCollectionProperties {
          */
         private String filename = "collection.json";
 
+        /**
+         * Output formats to write from a single introspection pass. Supported values are
+         * postman-v2.0, postman-v2.1, openapi-yaml, openapi-json and har; the first format
+         * is the one whose path is returned by generateCollection().
+         */
+        private List<String> formats = new ArrayList<>(List.of("postman-v2.0"));
+
+        /**
+         * Merge into an existing Postman collection file instead of replacing it, keeping
+         * user-owned fields such as tests, examples and pre-request scripts.
+         */
+        private boolean merge = false;
+
+        /**
+         * Sort endpoints by path and then HTTP method, the order expected when aggregating
+         * the collections of several services.
+         */
+        private boolean sorted = false;
+
         public String getDirectory() {
             return directory;
         }
@@ -121,12 +242,43 @@ public class PostmanCollectionProperties {
             this.filename = filename;
         }
 
+        public List<String> getFormats() {
+            return formats;
+        }
+
+        public void setFormats(List<String> formats) {
+            this.formats = formats;
+        }
+
+        public boolean isMerge() {
+            return merge;
+        }
+
+        public void setMerge(boolean merge) {
+            this.merge = merge;
+        }
+
+        public boolean isSorted() {
+            return sorted;
+        }
+
+        public void setSorted(boolean sorted) {
+            this.sorted = sorted;
+        }
+
         /**
          * Get the full path to the output file.
          */
         public String getFullPath() {
+            return getFullPath(filename);
+        }
+
+        /**
+         * Get the full path to a file in the output directory.
+         */
+        public String getFullPath(String name) {
             String dir = directory.endsWith("/") ? directory : directory + "/";
-            return dir + filename;
+            return dir + name;
         }
     }
 
@@ -217,5 +369,291 @@ public class PostmanCollectionProperties {
             this.headerType = headerType;
         }
     }
-}
 
+    /**
+     * Per-environment overrides.
+     */
+    public static class Environment {
+        /**
+         * Base URL of the environment.
+         */
+        private String baseUrl = "";
+
+        /**
+         * Authorization header name; falls back to authorization.header-name when blank. With
+         * environment-files=true all environments must resolve to the same name.
+         */
+        private String headerName;
+
+        /**
+         * Authorization header value; falls back to authorization.header-value when blank.
+         */
+        private String headerValue;
+
+        /**
+         * Additional variables written to the Postman environment file.
+         */
+        private Map<String, String> variables = new LinkedHashMap<>();
+
+        public String getBaseUrl() {
+            return baseUrl;
+        }
+
+        public void setBaseUrl(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public String getHeaderName() {
+            return headerName;
+        }
+
+        public void setHeaderName(String headerName) {
+            this.headerName = headerName;
+        }
+
+        public String getHeaderValue() {
+            return headerValue;
+        }
+
+        public void setHeaderValue(String headerValue) {
+            this.headerValue = headerValue;
+        }
+
+        public Map<String, String> getVariables() {
+            return variables;
+        }
+
+        public void setVariables(Map<String, String> variables) {
+            this.variables = variables;
+        }
+    }
+
+    /**
+     * Traffic sampling configuration.
+     */
+    public static class Sampling {
+        /**
+         * Register a servlet filter that samples real requests to use as example bodies.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of requests to sample, between 0.0 and 1.0.
+         */
+        private double rate = 0.01;
+
+        /**
+         * Number of samples kept per endpoint; older samples are overwritten.
+         */
+        private int bufferSize = 5;
+
+        /**
+         * Maximum request body size in bytes to capture; larger bodies are not captured.
+         */
+        private int maxBodySize = 16384;
+
+        /**
+         * Body fields and query parameters whose values are masked (case-insensitive).
+         */
+        private List<String> redactedFields = new ArrayList<>(List.of(
+                "password", "secret", "token", "accessToken", "refreshToken", "authorization",
+                "apiKey", "cardNumber", "cvv", "ssn"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getRate() {
+            return rate;
+        }
+
+        public void setRate(double rate) {
+            this.rate = rate;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getMaxBodySize() {
+            return maxBodySize;
+        }
+
+        public void setMaxBodySize(int maxBodySize) {
+            this.maxBodySize = maxBodySize;
+        }
+
+        public List<String> getRedactedFields() {
+            return redactedFields;
+        }
+
+        public void setRedactedFields(List<String> redactedFields) {
+            this.redactedFields = redactedFields;
+        }
+    }
+
+    /**
+     * Generation time budget configuration. When neither timeout is set, endpoints are
+     * introspected sequentially without any budget.
+     */
+    public static class Generation {
+        /**
+         * Deadline for introspecting all endpoints; endpoints not finished by then are
+         * emitted as placeholders.
+         */
+        private Duration timeout;
+
+        /**
+         * Time budget for introspecting a single endpoint, counted from when it starts.
+         */
+        private Duration endpointTimeout;
+
+        public Duration getTimeout() {
+            return timeout;
+        }
+
+        public void setTimeout(Duration timeout) {
+            this.timeout = timeout;
+        }
+
+        public Duration getEndpointTimeout() {
+            return endpointTimeout;
+        }
+
+        public void setEndpointTimeout(Duration endpointTimeout) {
+            this.endpointTimeout = endpointTimeout;
+        }
+    }
+
+    /**
+     * Compile-time endpoint index configuration. The index is written by
+     * {@link com.collection.creator.index.EndpointIndexProcessor} when it is enabled in the build.
+     */
+    public static class Index {
+        /**
+         * Use the endpoint index resources on the classpath instead of reflecting over handler
+         * parameters. Entries that do not match the live handler mappings fall back to reflection.
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+    }
+
+    /**
+     * Response-time SLA configuration. When enabled, every request in the collection gets a
+     * {@code test} script asserting its status and that it answers within the SLA. A
+     * {@link com.collection.creator.sla.ResponseTimeSla} on the handler method wins over the rules,
+     * and the first matching rule wins over the default.
+     */
+    public static class Sla {
+        /**
+         * Emit SLA test scripts for every request.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Default response time SLA for endpoints no rule or annotation applies to.
+         */
+        private Duration responseTime = Duration.ofSeconds(1);
+
+        /**
+         * Per-endpoint overrides, checked in order.
+         */
+        private List<Rule> rules = new ArrayList<>();
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getResponseTime() {
+            return responseTime;
+        }
+
+        public void setResponseTime(Duration responseTime) {
+            this.responseTime = responseTime;
+        }
+
+        public List<Rule> getRules() {
+            return rules;
+        }
+
+        public void setRules(List<Rule> rules) {
+            this.rules = rules;
+        }
+
+        /**
+         * SLA override for the endpoints matching a path pattern.
+         */
+        public static class Rule {
+            /**
+             * Ant-style pattern matched against the endpoint path, e.g. {@code /api/reports/**}.
+             */
+            private String pattern;
+
+            /**
+             * HTTP method the rule is limited to; all methods when not set.
+             */
+            private String method;
+
+            /**
+             * Response time SLA; the default when not set.
+             */
+            private Duration responseTime;
+
+            /**
+             * Expected status code; derived from the handler when not set.
+             */
+            private Integer status;
+
+            public String getPattern() {
+                return pattern;
+            }
+
+            public void setPattern(String pattern) {
+                this.pattern = pattern;
+            }
+
+            public String getMethod() {
+                return method;
+            }
+
+            public void setMethod(String method) {
+                this.method = method;
+            }
+
+            public Duration getResponseTime() {
+                return responseTime;
+            }
+
+            public void setResponseTime(Duration responseTime) {
+                this.responseTime = responseTime;
+            }
+
+            public Integer getStatus() {
+                return status;
+            }
+
+            public void setStatus(Integer status) {
+                this.status = status;
+            }
+        }
+    }
+}
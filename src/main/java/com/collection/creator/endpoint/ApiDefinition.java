@@ -0,0 +1,65 @@
+package com.collection.creator.endpoint;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format-neutral result of a single introspection pass.
+ *
+ * <p>Holds the collection metadata, the base URL and headers shared by every request,
+ * and the discovered {@link EndpointDefinition}s.
+ */
+public class ApiDefinition {
+    private String name;
+    private String baseUrl;
+    private Map<String, String> headers = new LinkedHashMap<>();
+    private List<EndpointDefinition> endpoints = new ArrayList<>();
+    private List<String> timedOutEndpoints = new ArrayList<>();
+
+    // Getters and setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    public void setHeaders(Map<String, String> headers) {
+        this.headers = headers;
+    }
+
+    public List<EndpointDefinition> getEndpoints() {
+        return endpoints;
+    }
+
+    public void setEndpoints(List<EndpointDefinition> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    /**
+     * Names ({@code <path>_<METHOD>}) of the endpoints emitted as placeholders because their
+     * introspection timed out.
+     */
+    public List<String> getTimedOutEndpoints() {
+        return timedOutEndpoints;
+    }
+
+    public void setTimedOutEndpoints(List<String> timedOutEndpoints) {
+        this.timedOutEndpoints = timedOutEndpoints;
+    }
+}
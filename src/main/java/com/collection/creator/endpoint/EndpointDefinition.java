@@ -0,0 +1,147 @@
+package com.collection.creator.endpoint;
+
+import com.collection.creator.sampling.RequestSample;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Format-neutral description of a single endpoint (one path pattern and one HTTP method).
+ *
+ * <p>Instances are produced once per generation by
+ * {@link com.collection.creator.service.PostmanCollectionService} and are only read afterwards,
+ * so they can be consumed by several {@link com.collection.creator.writer.CollectionWriter}s in parallel.
+ */
+public class EndpointDefinition {
+    private String name;
+    private String method;
+    private String path;
+    private String controller;
+    private String controllerClass;
+    private String handlerMethod;
+    private Map<String, Object> queryParameters = new LinkedHashMap<>();
+    private Map<String, Object> bodyDefaults = new LinkedHashMap<>();
+    private List<RequestSample> examples = new ArrayList<>();
+    private boolean timedOut;
+    private Long maxResponseTime;
+    private Integer expectedStatus;
+
+    // Getters and setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public void setMethod(String method) {
+        this.method = method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public String getController() {
+        return controller;
+    }
+
+    public void setController(String controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Fully qualified class name of the controller; {@link #getController()} is its simple name.
+     */
+    public String getControllerClass() {
+        return controllerClass;
+    }
+
+    public void setControllerClass(String controllerClass) {
+        this.controllerClass = controllerClass;
+    }
+
+    public String getHandlerMethod() {
+        return handlerMethod;
+    }
+
+    public void setHandlerMethod(String handlerMethod) {
+        this.handlerMethod = handlerMethod;
+    }
+
+    public Map<String, Object> getQueryParameters() {
+        return queryParameters;
+    }
+
+    public void setQueryParameters(Map<String, Object> queryParameters) {
+        this.queryParameters = queryParameters;
+    }
+
+    public Map<String, Object> getBodyDefaults() {
+        return bodyDefaults;
+    }
+
+    public void setBodyDefaults(Map<String, Object> bodyDefaults) {
+        this.bodyDefaults = bodyDefaults;
+    }
+
+    /**
+     * Captured requests, other than the one used for the defaults, to be offered as saved examples.
+     */
+    public List<RequestSample> getExamples() {
+        return examples;
+    }
+
+    public void setExamples(List<RequestSample> examples) {
+        this.examples = examples;
+    }
+
+    /**
+     * Whether introspection ran out of time budget, leaving this as a placeholder without
+     * parameters or body.
+     */
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public void setTimedOut(boolean timedOut) {
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * Response time SLA in milliseconds, or {@code null} when SLAs are not enabled.
+     */
+    public Long getMaxResponseTime() {
+        return maxResponseTime;
+    }
+
+    public void setMaxResponseTime(Long maxResponseTime) {
+        this.maxResponseTime = maxResponseTime;
+    }
+
+    /**
+     * Status code the SLA test expects, set together with {@link #getMaxResponseTime()}.
+     */
+    public Integer getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    public void setExpectedStatus(Integer expectedStatus) {
+        this.expectedStatus = expectedStatus;
+    }
+
+    public boolean hasBody() {
+        return bodyDefaults != null && !bodyDefaults.isEmpty();
+    }
+}
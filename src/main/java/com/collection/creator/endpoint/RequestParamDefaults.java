@@ -0,0 +1,42 @@
+package com.collection.creator.endpoint;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.bind.annotation.ValueConstants;
+
+import java.util.Map;
+
+/**
+ * Resolves the name and example value of a {@code @RequestParam}. Shared by runtime reflection and
+ * the compile-time endpoint index so both produce the same query parameters.
+ */
+public final class RequestParamDefaults {
+
+    private RequestParamDefaults() {
+    }
+
+    /**
+     * Add a request parameter to {@code target}.
+     *
+     * @param value         the annotation's {@code value}
+     * @param defaultValue  the annotation's {@code defaultValue}
+     * @param parameterName the method parameter name, used when {@code value} is blank
+     * @param typeDefault   default for the parameter type, used when there is no default value
+     */
+    public static void put(Map<String, Object> target, String value, String defaultValue, String parameterName,
+                           Object typeDefault) {
+        Object data;
+        if (StringUtils.isNotBlank(defaultValue.replace(ValueConstants.DEFAULT_NONE, "").trim())) {
+            data = defaultValue;
+        } else {
+            data = typeDefault;
+        }
+
+        String paramName = StringUtils.isNotBlank(value.trim()) ? value : parameterName;
+
+        if (data == null || StringUtils.isBlank(data.toString())) {
+            data = "{" + paramName + "}";
+        }
+
+        target.put(paramName, data);
+    }
+}
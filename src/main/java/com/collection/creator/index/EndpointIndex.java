@@ -0,0 +1,98 @@
+package com.collection.creator.index;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compile-time endpoint index loaded from every {@value #LOCATION} resource on the classpath,
+ * one per module compiled with {@link EndpointIndexProcessor}.
+ *
+ * <p>Entries are keyed by declaring class, method name and parameter types. Unreadable resources
+ * are skipped with a warning, so a broken index only costs the reflection it would have saved.
+ */
+public final class EndpointIndex {
+
+    public static final String LOCATION = "META-INF/postman-collection/endpoint-index.json";
+
+    private static final Logger logger = LoggerFactory.getLogger(EndpointIndex.class);
+
+    private static final EndpointIndex EMPTY = new EndpointIndex(Collections.emptyMap());
+
+    private final Map<String, IndexedEndpoint> endpoints;
+
+    private EndpointIndex(Map<String, IndexedEndpoint> endpoints) {
+        this.endpoints = endpoints;
+    }
+
+    public static EndpointIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Load and combine all index resources visible to the class loader.
+     */
+    public static EndpointIndex load(ClassLoader classLoader, ObjectMapper objectMapper) {
+        Map<String, IndexedEndpoint> endpoints = new HashMap<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            while (resources.hasMoreElements()) {
+                URL resource = resources.nextElement();
+                try (InputStream in = resource.openStream()) {
+                    JsonNode index = objectMapper.readTree(in);
+                    for (JsonNode node : index.path("endpoints")) {
+                        IndexedEndpoint endpoint = objectMapper.treeToValue(node, IndexedEndpoint.class);
+                        endpoints.putIfAbsent(key(endpoint.getController(), endpoint.getHandlerMethod(),
+                                endpoint.getParameterTypes()), endpoint);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Ignoring unreadable endpoint index {}", resource, e);
+                }
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to list endpoint index resources", e);
+        }
+        if (endpoints.isEmpty()) {
+            return EMPTY;
+        }
+        logger.debug("Loaded endpoint index with {} entries", endpoints.size());
+        return new EndpointIndex(endpoints);
+    }
+
+    /**
+     * Entry for a handler method, or {@code null} if it was not indexed.
+     */
+    public IndexedEndpoint find(Method method) {
+        if (endpoints.isEmpty()) {
+            return null;
+        }
+        List<String> parameterTypes = Arrays.stream(method.getParameterTypes())
+                .map(Class::getCanonicalName)
+                .toList();
+        return endpoints.get(key(method.getDeclaringClass().getName(), method.getName(), parameterTypes));
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    public int size() {
+        return endpoints.size();
+    }
+
+    static String key(String controller, String handlerMethod, List<String> parameterTypes) {
+        return controller + "#" + handlerMethod + "(" + String.join(",", parameterTypes) + ")";
+    }
+}
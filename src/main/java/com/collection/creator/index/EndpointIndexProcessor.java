@@ -0,0 +1,331 @@
+package com.collection.creator.index;
+
+import com.collection.creator.endpoint.RequestParamDefaults;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Optional annotation processor that writes the {@value EndpointIndex#LOCATION} resource for
+ * the controllers of a module. For every handler method the index records its paths and HTTP
+ * methods, its {@code @RequestParam} names and defaults, and the field defaults of its
+ * {@code @RequestBody} type, computed the same way as runtime reflection.
+ *
+ * <p>The processor is not registered as a service, so it only runs when named explicitly, for
+ * example with {@code <annotationProcessors>} in the maven-compiler-plugin. Handler methods whose
+ * body type cannot be fully seen at compile time (JDK types, unresolved types) are left out and
+ * are reflected at runtime. After an incremental build the index only covers the recompiled
+ * controllers; the rest fall back to reflection as well.
+ */
+@SupportedAnnotationTypes({
+        "org.springframework.web.bind.annotation.RequestMapping",
+        "org.springframework.web.bind.annotation.GetMapping",
+        "org.springframework.web.bind.annotation.PostMapping",
+        "org.springframework.web.bind.annotation.PutMapping",
+        "org.springframework.web.bind.annotation.DeleteMapping",
+        "org.springframework.web.bind.annotation.PatchMapping"
+})
+public class EndpointIndexProcessor extends AbstractProcessor {
+
+    private final Map<String, IndexedEndpoint> endpoints = new LinkedHashMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind() == ElementKind.METHOD
+                        && element.getEnclosingElement() instanceof TypeElement controller) {
+                    IndexedEndpoint endpoint = createEndpoint(controller, (ExecutableElement) element);
+                    if (endpoint != null) {
+                        endpoints.putIfAbsent(EndpointIndex.key(endpoint.getController(),
+                                endpoint.getHandlerMethod(), endpoint.getParameterTypes()), endpoint);
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Index entry for a handler method, or {@code null} if it cannot be indexed.
+     */
+    private IndexedEndpoint createEndpoint(TypeElement controller, ExecutableElement method) {
+        Mapping methodMapping = mappingOf(method);
+        if (methodMapping == null) {
+            return null;
+        }
+        Mapping typeMapping = mappingOf(controller);
+
+        Map<String, Object> bodyDefaults = new LinkedHashMap<>();
+        Map<String, Object> queryParameters = new LinkedHashMap<>();
+        List<String> parameterTypes = new ArrayList<>();
+        for (VariableElement parameter : method.getParameters()) {
+            if (parameter.asType().getKind() == TypeKind.ERROR) {
+                return null;
+            }
+            parameterTypes.add(typeName(parameter.asType()));
+
+            RequestParam requestParam = parameter.getAnnotation(RequestParam.class);
+            if (parameter.getAnnotation(RequestBody.class) != null) {
+                if (!addBodyDefaults(parameter.asType(), bodyDefaults)) {
+                    return null;
+                }
+            } else if (requestParam != null) {
+                RequestParamDefaults.put(queryParameters, requestParam.value(), requestParam.defaultValue(),
+                        parameter.getSimpleName().toString(), defaultValueFor(parameter.asType()));
+            }
+        }
+
+        Set<String> methods = new LinkedHashSet<>();
+        if (typeMapping != null) {
+            methods.addAll(typeMapping.methods);
+        }
+        methods.addAll(methodMapping.methods);
+
+        IndexedEndpoint endpoint = new IndexedEndpoint();
+        endpoint.setController(processingEnv.getElementUtils().getBinaryName(controller).toString());
+        endpoint.setHandlerMethod(method.getSimpleName().toString());
+        endpoint.setParameterTypes(parameterTypes);
+        endpoint.setPaths(combinePaths(typeMapping != null ? typeMapping.paths : List.of(), methodMapping.paths));
+        endpoint.setMethods(new ArrayList<>(methods));
+        endpoint.setQueryParameters(queryParameters);
+        endpoint.setBodyDefaults(bodyDefaults);
+        return endpoint;
+    }
+
+    /**
+     * Add the defaults of every field of the body type and its superclasses, like
+     * {@code FieldUtils.getAllFieldsList}. Returns {@code false} if the fields cannot all be seen.
+     */
+    private boolean addBodyDefaults(TypeMirror bodyType, Map<String, Object> bodyDefaults) {
+        if (bodyType.getKind() != TypeKind.DECLARED) {
+            return true;
+        }
+        TypeElement type = (TypeElement) processingEnv.getTypeUtils().asElement(bodyType);
+        while (type != null && !type.getQualifiedName().contentEquals("java.lang.Object")) {
+            // Private fields of platform classes are not visible to the compiler
+            if (isPlatformType(type)) {
+                return false;
+            }
+            for (Element member : type.getEnclosedElements()) {
+                if (member.getKind() == ElementKind.FIELD || member.getKind() == ElementKind.ENUM_CONSTANT) {
+                    if (member.asType().getKind() == TypeKind.ERROR) {
+                        return false;
+                    }
+                    bodyDefaults.put(member.getSimpleName().toString(), defaultValueFor(member.asType()));
+                }
+            }
+            TypeMirror superclass = type.getSuperclass();
+            type = superclass.getKind() == TypeKind.DECLARED
+                    ? (TypeElement) processingEnv.getTypeUtils().asElement(superclass)
+                    : null;
+        }
+        return true;
+    }
+
+    private static boolean isPlatformType(TypeElement type) {
+        String name = type.getQualifiedName().toString();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.");
+    }
+
+    /**
+     * Compile-time counterpart of the runtime default for a field or parameter type.
+     */
+    private Object defaultValueFor(TypeMirror type) {
+        switch (type.getKind()) {
+            case INT:
+                return 0;
+            case DOUBLE:
+                return 0.0;
+            case FLOAT:
+                return 0.0f;
+            case LONG:
+                return 0L;
+            case BOOLEAN:
+                return false;
+            case CHAR:
+                return '\u0000';
+            case BYTE:
+                return (byte) 0;
+            case SHORT:
+                return (short) 0;
+            case DECLARED:
+                if (((TypeElement) processingEnv.getTypeUtils().asElement(type)).getQualifiedName()
+                        .contentEquals("java.lang.String")) {
+                    return "";
+                }
+                if (isAssignableTo(type, "java.util.Collection")) {
+                    return List.of();
+                }
+                if (isAssignableTo(type, "java.util.Map")) {
+                    return Map.of();
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    private boolean isAssignableTo(TypeMirror type, String className) {
+        TypeElement target = processingEnv.getElementUtils().getTypeElement(className);
+        return target != null && processingEnv.getTypeUtils().isAssignable(
+                processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(target.asType()));
+    }
+
+    /**
+     * Erased type name as returned by {@code Class.getCanonicalName()} at runtime.
+     */
+    private String typeName(TypeMirror type) {
+        TypeMirror erasure = processingEnv.getTypeUtils().erasure(type);
+        if (erasure.getKind() == TypeKind.ARRAY) {
+            return typeName(((ArrayType) erasure).getComponentType()) + "[]";
+        }
+        if (erasure.getKind() == TypeKind.DECLARED) {
+            return ((TypeElement) processingEnv.getTypeUtils().asElement(erasure)).getQualifiedName().toString();
+        }
+        if (erasure.getKind().isPrimitive()) {
+            return erasure.getKind().name().toLowerCase();
+        }
+        return erasure.toString();
+    }
+
+    /**
+     * Paths and methods declared by the mapping annotation on an element, or {@code null}.
+     */
+    private static Mapping mappingOf(Element element) {
+        RequestMapping requestMapping = element.getAnnotation(RequestMapping.class);
+        if (requestMapping != null) {
+            return new Mapping(paths(requestMapping.value(), requestMapping.path()),
+                    Arrays.stream(requestMapping.method()).map(RequestMethod::name).toList());
+        }
+        GetMapping getMapping = element.getAnnotation(GetMapping.class);
+        if (getMapping != null) {
+            return new Mapping(paths(getMapping.value(), getMapping.path()), List.of("GET"));
+        }
+        PostMapping postMapping = element.getAnnotation(PostMapping.class);
+        if (postMapping != null) {
+            return new Mapping(paths(postMapping.value(), postMapping.path()), List.of("POST"));
+        }
+        PutMapping putMapping = element.getAnnotation(PutMapping.class);
+        if (putMapping != null) {
+            return new Mapping(paths(putMapping.value(), putMapping.path()), List.of("PUT"));
+        }
+        DeleteMapping deleteMapping = element.getAnnotation(DeleteMapping.class);
+        if (deleteMapping != null) {
+            return new Mapping(paths(deleteMapping.value(), deleteMapping.path()), List.of("DELETE"));
+        }
+        PatchMapping patchMapping = element.getAnnotation(PatchMapping.class);
+        if (patchMapping != null) {
+            return new Mapping(paths(patchMapping.value(), patchMapping.path()), List.of("PATCH"));
+        }
+        return null;
+    }
+
+    private static List<String> paths(String[] value, String[] path) {
+        return Stream.concat(Arrays.stream(value), Arrays.stream(path)).distinct().toList();
+    }
+
+    /**
+     * Combine type-level and method-level paths the way Spring MVC does for plain patterns.
+     */
+    static List<String> combinePaths(List<String> typePaths, List<String> methodPaths) {
+        if (typePaths.isEmpty() && methodPaths.isEmpty()) {
+            return List.of("");
+        }
+        if (typePaths.isEmpty()) {
+            return methodPaths.stream().map(EndpointIndexProcessor::withLeadingSlash).toList();
+        }
+        if (methodPaths.isEmpty()) {
+            return typePaths.stream().map(EndpointIndexProcessor::withLeadingSlash).toList();
+        }
+        List<String> combined = new ArrayList<>();
+        for (String typePath : typePaths) {
+            for (String methodPath : methodPaths) {
+                combined.add(withLeadingSlash(concat(typePath, methodPath)));
+            }
+        }
+        return combined;
+    }
+
+    private static String concat(String first, String second) {
+        if (first.isEmpty()) {
+            return second;
+        }
+        if (second.isEmpty()) {
+            return first;
+        }
+        boolean firstSlash = first.endsWith("/");
+        boolean secondSlash = second.startsWith("/");
+        if (firstSlash && secondSlash) {
+            return first + second.substring(1);
+        }
+        return firstSlash || secondSlash ? first + second : first + "/" + second;
+    }
+
+    private static String withLeadingSlash(String path) {
+        return path.isEmpty() || path.startsWith("/") ? path : "/" + path;
+    }
+
+    private void writeIndex() {
+        if (endpoints.isEmpty()) {
+            return;
+        }
+        try {
+            FileObject resource = processingEnv.getFiler()
+                    .createResource(StandardLocation.CLASS_OUTPUT, "", EndpointIndex.LOCATION);
+            try (Writer writer = resource.openWriter()) {
+                new ObjectMapper().writerWithDefaultPrettyPrinter()
+                        .writeValue(writer, Map.of("endpoints", endpoints.values()));
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "Failed to write endpoint index " + EndpointIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private record Mapping(List<String> paths, List<String> methods) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.collection.creator.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One handler method in the compile-time endpoint index: where it is declared, the paths and HTTP
+ * methods it was mapped to at compile time, and its precomputed query parameters and body.
+ */
+public class IndexedEndpoint {
+    private String controller;
+    private String handlerMethod;
+    private List<String> parameterTypes = new ArrayList<>();
+    private List<String> paths = new ArrayList<>();
+    private List<String> methods = new ArrayList<>();
+    private Map<String, Object> queryParameters = new LinkedHashMap<>();
+    private Map<String, Object> bodyDefaults = new LinkedHashMap<>();
+
+    /**
+     * Whether the entry still describes the live mapping, i.e. it has the same paths and methods.
+     */
+    public boolean matches(Collection<String> livePaths, Collection<String> liveMethods) {
+        return new HashSet<>(paths).equals(new HashSet<>(livePaths))
+                && new HashSet<>(methods).equals(new HashSet<>(liveMethods));
+    }
+
+    // Getters and setters
+    public String getController() {
+        return controller;
+    }
+
+    public void setController(String controller) {
+        this.controller = controller;
+    }
+
+    public String getHandlerMethod() {
+        return handlerMethod;
+    }
+
+    public void setHandlerMethod(String handlerMethod) {
+        this.handlerMethod = handlerMethod;
+    }
+
+    public List<String> getParameterTypes() {
+        return parameterTypes;
+    }
+
+    public void setParameterTypes(List<String> parameterTypes) {
+        this.parameterTypes = parameterTypes;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public List<String> getMethods() {
+        return methods;
+    }
+
+    public void setMethods(List<String> methods) {
+        this.methods = methods;
+    }
+
+    public Map<String, Object> getQueryParameters() {
+        return queryParameters;
+    }
+
+    public void setQueryParameters(Map<String, Object> queryParameters) {
+        this.queryParameters = queryParameters;
+    }
+
+    public Map<String, Object> getBodyDefaults() {
+        return bodyDefaults;
+    }
+
+    public void setBodyDefaults(Map<String, Object> bodyDefaults) {
+        this.bodyDefaults = bodyDefaults;
+    }
+}
@@ -0,0 +1,18 @@
+package com.collection.creator.metrics;
+
+import java.time.Duration;
+
+/**
+ * Receives the outcome of every collection generation.
+ */
+public interface GenerationMetrics {
+
+    /**
+     * Record a finished generation.
+     *
+     * @param duration Wall time of the generation, including writing the outputs
+     * @param endpoints Number of endpoints in the outputs, placeholders included
+     * @param timedOutEndpoints Number of endpoints emitted as timed-out placeholders
+     */
+    void recordGeneration(Duration duration, int endpoints, int timedOutEndpoints);
+}
@@ -0,0 +1,43 @@
+package com.collection.creator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+
+/**
+ * Publishes generation metrics to Micrometer:
+ * <ul>
+ *   <li>{@code postman.collection.generation} - timer tagged with {@code outcome} ({@code complete} or {@code partial})</li>
+ *   <li>{@code postman.collection.endpoints} - counter of generated endpoints</li>
+ *   <li>{@code postman.collection.endpoint.timeouts} - counter of endpoints that timed out</li>
+ * </ul>
+ */
+public class MicrometerGenerationMetrics implements GenerationMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter endpointCounter;
+    private final Counter timeoutCounter;
+
+    public MicrometerGenerationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.endpointCounter = Counter.builder("postman.collection.endpoints")
+                .description("Endpoints written by collection generation")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("postman.collection.endpoint.timeouts")
+                .description("Endpoints emitted as placeholders because introspection timed out")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void recordGeneration(Duration duration, int endpoints, int timedOutEndpoints) {
+        Timer.builder("postman.collection.generation")
+                .description("Time taken to generate collections")
+                .tag("outcome", timedOutEndpoints > 0 ? "partial" : "complete")
+                .register(meterRegistry)
+                .record(duration);
+        endpointCounter.increment(endpoints);
+        timeoutCounter.increment(timedOutEndpoints);
+    }
+}
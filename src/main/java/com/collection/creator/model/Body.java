@@ -1,33 +1,59 @@
 package com.collection.creator.model;
 
-public class Body {
-    private String mode;
-    private String raw;
-    private Options options;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-    // Getters and setters
-    public String getMode() {
-        return mode;
-    }
+import java.util.Objects;
 
-    public void setMode(String mode) {
+/**
+ * Immutable request body. Instances are interned, so equal bodies are shared across items.
+ */
+public final class Body {
+
+    private final String mode;
+    private final String raw;
+    private final Options options;
+
+    private Body(String mode, String raw, Options options) {
         this.mode = mode;
+        this.raw = raw;
+        this.options = options;
     }
 
-    public String getRaw() {
-        return raw;
+    @JsonCreator
+    public static Body of(@JsonProperty("mode") String mode, @JsonProperty("raw") String raw,
+                          @JsonProperty("options") Options options) {
+        return ModelInterner.intern(new Body(mode, raw, options));
     }
 
-    public void setRaw(String raw) {
-        this.raw = raw;
+    /**
+     * A raw JSON body.
+     */
+    public static Body json(String json) {
+        return of("raw", json, Options.JSON);
+    }
+
+    // Getters
+    public String getMode() {
+        return mode;
+    }
+
+    public String getRaw() {
+        return raw;
     }
 
     public Options getOptions() {
         return options;
     }
 
-    public void setOptions(Options options) {
-        this.options = options;
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Body other && Objects.equals(mode, other.mode)
+                && Objects.equals(raw, other.raw) && Objects.equals(options, other.options);
     }
-}
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(mode, raw, options);
+    }
+}
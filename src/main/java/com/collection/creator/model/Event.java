@@ -0,0 +1,66 @@
+package com.collection.creator.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Objects;
+
+/**
+ * Immutable item event, such as a {@code test} script run after the response arrives. Instances
+ * are interned, so items with the same script share one event.
+ */
+public final class Event {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final String id; // Identifies generated events, null for others
+    private final String listen;
+    private final Script script;
+
+    private Event(String id, String listen, Script script) {
+        this.id = id;
+        this.listen = listen;
+        this.script = script;
+    }
+
+    @JsonCreator
+    public static Event of(@JsonProperty("id") String id, @JsonProperty("listen") String listen,
+                           @JsonProperty("script") Script script) {
+        return ModelInterner.intern(new Event(id, listen, script));
+    }
+
+    public static Event of(String listen, Script script) {
+        return of(null, listen, script);
+    }
+
+    /**
+     * A {@code test} event running the given script.
+     */
+    public static Event test(Script script) {
+        return of("test", script);
+    }
+
+    // Getters
+    public String getId() {
+        return id;
+    }
+
+    public String getListen() {
+        return listen;
+    }
+
+    public Script getScript() {
+        return script;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Event other && Objects.equals(id, other.id)
+                && Objects.equals(listen, other.listen) && Objects.equals(script, other.script);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, listen, script);
+    }
+}
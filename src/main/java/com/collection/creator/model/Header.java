@@ -1,32 +1,52 @@
 package com.collection.creator.model;
 
-public class Header {
-    private String key;
-    private String value;
-    private String type;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-    // Getters and setters
-    public String getKey() {
-        return key;
-    }
+import java.util.Objects;
+
+/**
+ * Immutable request header. Instances are interned, so equal headers are shared across items.
+ */
+public final class Header {
+
+    private final String key;
+    private final String value;
+    private final String type;
 
-    public void setKey(String key) {
+    private Header(String key, String value, String type) {
         this.key = key;
+        this.value = value;
+        this.type = type;
     }
 
-    public String getValue() {
-        return value;
+    @JsonCreator
+    public static Header of(@JsonProperty("key") String key, @JsonProperty("value") String value,
+                            @JsonProperty("type") String type) {
+        return ModelInterner.intern(new Header(key, value, type));
     }
 
-    public void setValue(String value) {
-        this.value = value;
+    // Getters
+    public String getKey() {
+        return key;
+    }
+
+    public String getValue() {
+        return value;
     }
 
     public String getType() {
         return type;
     }
 
-    public void setType(String type) {
-        this.type = type;
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Header other && Objects.equals(key, other.key)
+                && Objects.equals(value, other.value) && Objects.equals(type, other.type);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(key, value, type);
     }
 }
@@ -1,35 +1,89 @@
 package com.collection.creator.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
 import java.util.List;
 
-public class Item {
-    private String name;
-    private Request request;
-    private List<Object> response; // Assuming response is empty in this case
+/**
+ * Immutable collection item, safe to cache and share between threads.
+ */
+@JsonDeserialize(builder = Item.Builder.class)
+public final class Item {
+    private final String name;
+    private final Request request;
+    private final List<Object> response; // Saved examples, null when there are none
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<Event> event;
 
-    // Getters and setters
-    public String getName() {
-        return name;
+    private Item(Builder builder) {
+        this.name = builder.name;
+        this.request = builder.request;
+        this.response = builder.response == null ? null : List.copyOf(builder.response);
+        this.event = builder.event == null ? null : List.copyOf(builder.event);
     }
 
-    public void setName(String name) {
-        this.name = name;
+    public static Builder builder() {
+        return new Builder();
     }
 
-    public Request getRequest() {
-        return request;
+    /**
+     * A builder initialised with this item's values; unchanged parts stay shared.
+     */
+    public Builder toBuilder() {
+        return new Builder().name(name).request(request).response(response).event(event);
     }
 
-    public void setRequest(Request request) {
-        this.request = request;
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public Request getRequest() {
+        return request;
     }
 
     public List<Object> getResponse() {
         return response;
     }
 
-    public void setResponse(List<Object> response) {
-        this.response = response;
+    public List<Event> getEvent() {
+        return event;
     }
-}
 
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private String name;
+        private Request request;
+        private List<Object> response;
+        private List<Event> event;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder request(Request request) {
+            this.request = request;
+            return this;
+        }
+
+        public Builder response(List<Object> response) {
+            this.response = response;
+            return this;
+        }
+
+        public Builder event(List<Event> event) {
+            this.event = event;
+            return this;
+        }
+
+        public Item build() {
+            return new Item(this);
+        }
+    }
+}
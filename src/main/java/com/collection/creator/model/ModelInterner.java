@@ -0,0 +1,47 @@
+package com.collection.creator.model;
+
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
+import java.util.List;
+
+/**
+ * Canonical instances of the immutable model values that repeat across items: headers, header
+ * sets, bodies, event scripts and events. Equal values created anywhere share one instance, so a
+ * large collection holds one copy of its common header set and of each distinct body. Interners are weak, so values no
+ * longer referenced by any collection are collected.
+ */
+final class ModelInterner {
+
+    private static final Interner<Header> HEADERS = Interners.newWeakInterner();
+    private static final Interner<List<Header>> HEADER_SETS = Interners.newWeakInterner();
+    private static final Interner<Body> BODIES = Interners.newWeakInterner();
+    private static final Interner<Script> SCRIPTS = Interners.newWeakInterner();
+    private static final Interner<Event> EVENTS = Interners.newWeakInterner();
+
+    private ModelInterner() {
+    }
+
+    static Header intern(Header header) {
+        return HEADERS.intern(header);
+    }
+
+    /**
+     * Intern an immutable copy of the header list; {@code null} stays {@code null}.
+     */
+    static List<Header> intern(List<Header> headers) {
+        return headers == null ? null : HEADER_SETS.intern(List.copyOf(headers));
+    }
+
+    static Body intern(Body body) {
+        return BODIES.intern(body);
+    }
+
+    static Script intern(Script script) {
+        return SCRIPTS.intern(script);
+    }
+
+    static Event intern(Event event) {
+        return EVENTS.intern(event);
+    }
+}
@@ -1,15 +1,40 @@
 package com.collection.creator.model;
 
-public class Options {
-    private Raw raw;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-    // Getters and setters
+import java.util.Objects;
+
+/**
+ * Immutable body options.
+ */
+public final class Options {
+
+    public static final Options JSON = new Options(Raw.JSON);
+
+    private final Raw raw;
+
+    private Options(Raw raw) {
+        this.raw = raw;
+    }
+
+    @JsonCreator
+    public static Options of(@JsonProperty("raw") Raw raw) {
+        return JSON.raw.equals(raw) ? JSON : new Options(raw);
+    }
+
+    // Getters
     public Raw getRaw() {
         return raw;
     }
 
-    public void setRaw(Raw raw) {
-        this.raw = raw;
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Options other && Objects.equals(raw, other.raw);
     }
-}
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(raw);
+    }
+}
@@ -0,0 +1,38 @@
+package com.collection.creator.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public class PostmanEnvironment {
+    private String name;
+    private List<EnvironmentValue> values;
+
+    @JsonProperty("_postman_variable_scope")
+    private String variableScope = "environment";
+
+    // Getters and setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<EnvironmentValue> getValues() {
+        return values;
+    }
+
+    public void setValues(List<EnvironmentValue> values) {
+        this.values = values;
+    }
+
+    public String getVariableScope() {
+        return variableScope;
+    }
+
+    public void setVariableScope(String variableScope) {
+        this.variableScope = variableScope;
+    }
+}
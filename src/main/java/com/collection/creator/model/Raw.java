@@ -1,15 +1,40 @@
 package com.collection.creator.model;
 
-public class Raw {
-    private String language;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 
-    // Getters and setters
+import java.util.Objects;
+
+/**
+ * Immutable raw body options.
+ */
+public final class Raw {
+
+    public static final Raw JSON = new Raw("json");
+
+    private final String language;
+
+    private Raw(String language) {
+        this.language = language;
+    }
+
+    @JsonCreator
+    public static Raw of(@JsonProperty("language") String language) {
+        return JSON.language.equals(language) ? JSON : new Raw(language);
+    }
+
+    // Getters
     public String getLanguage() {
         return language;
     }
 
-    public void setLanguage(String language) {
-        this.language = language;
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Raw other && Objects.equals(language, other.language);
     }
-}
 
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(language);
+    }
+}
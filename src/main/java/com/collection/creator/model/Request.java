@@ -1,44 +1,88 @@
 package com.collection.creator.model;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
 import java.util.List;
 
-public class Request {
-    private String method;
-    private List<Header> header;
-    private Body body;
-    private String url;
+/**
+ * Immutable request. The header list is an interned, unmodifiable list shared by every request
+ * with the same headers.
+ */
+@JsonDeserialize(builder = Request.Builder.class)
+public final class Request {
+    private final String method;
+    private final List<Header> header;
+    private final Body body;
+    private final String url;
 
-    // Getters and setters
-    public String getMethod() {
-        return method;
+    private Request(Builder builder) {
+        this.method = builder.method;
+        this.header = ModelInterner.intern(builder.header);
+        this.body = builder.body;
+        this.url = builder.url;
     }
 
-    public void setMethod(String method) {
-        this.method = method;
+    public static Builder builder() {
+        return new Builder();
     }
 
-    public List<Header> getHeader() {
-        return header;
+    /**
+     * A builder initialised with this request's values; unchanged parts stay shared.
+     */
+    public Builder toBuilder() {
+        return new Builder().method(method).header(header).body(body).url(url);
     }
 
-    public void setHeader(List<Header> header) {
-        this.header = header;
+    // Getters
+    public String getMethod() {
+        return method;
     }
 
-    public Body getBody() {
-        return body;
+    public List<Header> getHeader() {
+        return header;
     }
 
-    public void setBody(Body body) {
-        this.body = body;
+    public Body getBody() {
+        return body;
     }
 
     public String getUrl() {
         return url;
     }
 
-    public void setUrl(String url) {
-        this.url = url;
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private String method;
+        private List<Header> header;
+        private Body body;
+        private String url;
+
+        private Builder() {
+        }
+
+        public Builder method(String method) {
+            this.method = method;
+            return this;
+        }
+
+        public Builder header(List<Header> header) {
+            this.header = header;
+            return this;
+        }
+
+        public Builder body(Body body) {
+            this.body = body;
+            return this;
+        }
+
+        public Builder url(String url) {
+            this.url = url;
+            return this;
+        }
+
+        public Request build() {
+            return new Request(this);
+        }
     }
 }
-
@@ -0,0 +1,90 @@
+package com.collection.creator.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonPOJOBuilder;
+
+/**
+ * Immutable saved example of an item.
+ */
+@JsonDeserialize(builder = Response.Builder.class)
+public final class Response {
+    private final String name;
+    private final Request originalRequest;
+    private final String status;
+    private final Integer code;
+    private final String body;
+
+    private Response(Builder builder) {
+        this.name = builder.name;
+        this.originalRequest = builder.originalRequest;
+        this.status = builder.status;
+        this.code = builder.code;
+        this.body = builder.body;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public Request getOriginalRequest() {
+        return originalRequest;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getCode() {
+        return code;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    @JsonPOJOBuilder(withPrefix = "")
+    public static final class Builder {
+        private String name;
+        private Request originalRequest;
+        private String status;
+        private Integer code;
+        private String body;
+
+        private Builder() {
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Builder originalRequest(Request originalRequest) {
+            this.originalRequest = originalRequest;
+            return this;
+        }
+
+        public Builder status(String status) {
+            this.status = status;
+            return this;
+        }
+
+        public Builder code(Integer code) {
+            this.code = code;
+            return this;
+        }
+
+        public Builder body(String body) {
+            this.body = body;
+            return this;
+        }
+
+        public Response build() {
+            return new Response(this);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.collection.creator.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable event script: its language type and source lines. Instances are interned, so items
+ * with the same SLA share one script.
+ */
+public final class Script {
+
+    private final String type;
+    private final List<String> exec;
+
+    private Script(String type, List<String> exec) {
+        this.type = type;
+        this.exec = exec == null ? null : List.copyOf(exec);
+    }
+
+    @JsonCreator
+    public static Script of(@JsonProperty("type") String type, @JsonProperty("exec") List<String> exec) {
+        return ModelInterner.intern(new Script(type, exec));
+    }
+
+    /**
+     * A JavaScript script.
+     */
+    public static Script javascript(List<String> exec) {
+        return of("text/javascript", exec);
+    }
+
+    // Getters
+    public String getType() {
+        return type;
+    }
+
+    public List<String> getExec() {
+        return exec;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || o instanceof Script other && Objects.equals(type, other.type)
+                && Objects.equals(exec, other.exec);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, exec);
+    }
+}
@@ -0,0 +1,56 @@
+package com.collection.creator.sampling;
+
+import java.time.Instant;
+
+/**
+ * A single captured request, already redacted. Instances are immutable so they can be shared
+ * between the request threads that record them and the generator that reads them.
+ */
+public final class RequestSample {
+    private final String method;
+    private final String pattern;
+    private final String queryString;
+    private final String body;
+    private final int status;
+    private final Instant capturedAt;
+
+    public RequestSample(String method, String pattern, String queryString, String body, int status,
+                         Instant capturedAt) {
+        this.method = method;
+        this.pattern = pattern;
+        this.queryString = queryString;
+        this.body = body;
+        this.status = status;
+        this.capturedAt = capturedAt;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * Redacted query string without the leading {@code ?}, or {@code null}.
+     */
+    public String getQueryString() {
+        return queryString;
+    }
+
+    /**
+     * Redacted JSON body, or {@code null} when there was none or it could not be captured safely.
+     */
+    public String getBody() {
+        return body;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public Instant getCapturedAt() {
+        return capturedAt;
+    }
+}
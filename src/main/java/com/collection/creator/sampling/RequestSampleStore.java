@@ -0,0 +1,43 @@
+package com.collection.creator.sampling;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the most recent samples per endpoint, keyed by HTTP method and path pattern.
+ */
+public class RequestSampleStore {
+
+    private final ConcurrentMap<String, SampleRingBuffer> buffers = new ConcurrentHashMap<>();
+    private final int bufferSize;
+
+    public RequestSampleStore(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Sample buffer size must be at least 1");
+        }
+        this.bufferSize = bufferSize;
+    }
+
+    public void record(RequestSample sample) {
+        buffers.computeIfAbsent(key(sample.getMethod(), sample.getPattern()), k -> new SampleRingBuffer(bufferSize))
+                .add(sample);
+    }
+
+    /**
+     * Samples for an endpoint from newest to oldest; empty if none were captured.
+     */
+    public List<RequestSample> getSamples(String method, String pattern) {
+        SampleRingBuffer buffer = buffers.get(key(method, pattern));
+        return buffer == null ? List.of() : buffer.snapshot();
+    }
+
+    public void clear() {
+        buffers.clear();
+    }
+
+    private static String key(String method, String pattern) {
+        return method.toUpperCase(Locale.ROOT) + " " + pattern;
+    }
+}
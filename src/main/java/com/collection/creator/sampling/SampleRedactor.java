@@ -0,0 +1,90 @@
+package com.collection.creator.sampling;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Masks sensitive fields in captured JSON bodies and query strings. Field names are matched
+ * case-insensitively at any depth.
+ */
+public class SampleRedactor {
+
+    static final String MASK = "***";
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> redactedFields;
+
+    public SampleRedactor(ObjectMapper objectMapper, Collection<String> redactedFields) {
+        this.objectMapper = objectMapper;
+        this.redactedFields = redactedFields.stream()
+                .map(field -> field.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Redact a JSON body. Returns {@code null} when the body is not valid JSON (for example
+     * because it was truncated by the size cap), so unredacted content is never kept.
+     */
+    public String redactBody(String body) {
+        if (StringUtils.isBlank(body)) {
+            return null;
+        }
+        try {
+            JsonNode tree = objectMapper.readTree(body);
+            redact(tree);
+            return objectMapper.writeValueAsString(tree);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Redact the values of sensitive query parameters.
+     */
+    public String redactQueryString(String queryString) {
+        if (StringUtils.isBlank(queryString)) {
+            return null;
+        }
+        List<String> params = new ArrayList<>();
+        for (String param : queryString.split("&")) {
+            String name = StringUtils.substringBefore(param, "=");
+            String decoded = URLDecoder.decode(name, StandardCharsets.UTF_8);
+            params.add(isRedacted(decoded) ? name + "=" + MASK : param);
+        }
+        return String.join("&", params);
+    }
+
+    private void redact(JsonNode node) {
+        if (node.isObject()) {
+            ObjectNode object = (ObjectNode) node;
+            for (Map.Entry<String, JsonNode> field : object.properties()) {
+                if (isRedacted(field.getKey())) {
+                    field.setValue(object.textNode(MASK));
+                } else {
+                    redact(field.getValue());
+                }
+            }
+        } else if (node.isArray()) {
+            for (JsonNode element : node) {
+                redact(element);
+            }
+        }
+    }
+
+    private boolean isRedacted(String fieldName) {
+        return redactedFields.contains(fieldName.toLowerCase(Locale.ROOT));
+    }
+}
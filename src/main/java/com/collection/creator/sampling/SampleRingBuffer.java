@@ -0,0 +1,41 @@
+package com.collection.creator.sampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size, lock-free ring buffer of samples for one endpoint. Writers claim a slot with a
+ * single atomic increment and overwrite the oldest sample; readers take a best-effort snapshot.
+ */
+final class SampleRingBuffer {
+
+    private final AtomicReferenceArray<RequestSample> slots;
+    private final AtomicLong sequence = new AtomicLong();
+
+    SampleRingBuffer(int capacity) {
+        this.slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(RequestSample sample) {
+        long slot = sequence.getAndIncrement() % slots.length();
+        slots.set((int) slot, sample);
+    }
+
+    /**
+     * Samples from newest to oldest.
+     */
+    List<RequestSample> snapshot() {
+        long end = sequence.get();
+        int count = (int) Math.min(end, slots.length());
+        List<RequestSample> samples = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            RequestSample sample = slots.get((int) ((end - i) % slots.length()));
+            if (sample != null) {
+                samples.add(sample);
+            }
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,107 @@
+package com.collection.creator.sampling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples a fraction of real requests so the generator can use realistic bodies and query
+ * strings instead of type defaults.
+ *
+ * <p>Requests that are not sampled pass straight through after a single random draw. Sampled
+ * requests are wrapped to cache at most {@code maxBodySize} bytes of the body the application
+ * reads; once the handler has run, the matched path pattern, query string and JSON body are
+ * redacted and stored in the {@link RequestSampleStore}. Capture failures are logged and never
+ * affect the request.
+ */
+public class TrafficSamplingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TrafficSamplingFilter.class);
+
+    private final RequestSampleStore sampleStore;
+    private final SampleRedactor redactor;
+    private final double rate;
+    private final int maxBodySize;
+
+    public TrafficSamplingFilter(RequestSampleStore sampleStore, SampleRedactor redactor,
+                                 double rate, int maxBodySize) {
+        this.sampleStore = sampleStore;
+        this.redactor = redactor;
+        this.rate = rate;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (rate <= 0 || ThreadLocalRandom.current().nextDouble() >= rate) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ContentCachingRequestWrapper wrapper = new ContentCachingRequestWrapper(request, maxBodySize);
+        try {
+            filterChain.doFilter(wrapper, response);
+        } finally {
+            capture(wrapper, response);
+        }
+    }
+
+    private void capture(ContentCachingRequestWrapper request, HttpServletResponse response) {
+        try {
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (pattern == null) {
+                return;
+            }
+
+            String body = null;
+            if (isJson(request.getContentType()) && request.getContentLengthLong() <= maxBodySize) {
+                byte[] content = request.getContentAsByteArray();
+                if (content.length > 0) {
+                    body = redactor.redactBody(new String(content, charsetOf(request)));
+                }
+            }
+
+            sampleStore.record(new RequestSample(request.getMethod(), pattern.toString(),
+                    redactor.redactQueryString(request.getQueryString()), body, response.getStatus(),
+                    Instant.now()));
+        } catch (RuntimeException e) {
+            logger.debug("Failed to capture request sample for {}", request.getRequestURI(), e);
+        }
+    }
+
+    /**
+     * Whether the content type is JSON, including {@code +json} types such as
+     * {@code application/problem+json}.
+     */
+    private static boolean isJson(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return "json".equals(mediaType.getSubtype()) || "json".equals(mediaType.getSubtypeSuffix());
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private static Charset charsetOf(HttpServletRequest request) {
+        String encoding = request.getCharacterEncoding();
+        return encoding != null && Charset.isSupported(encoding) ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,47 @@
+package com.collection.creator.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome of a collection generation.
+ */
+public class GenerationResult {
+
+    private final Map<String, String> outputs;
+    private final List<String> timedOutEndpoints;
+    private final Duration duration;
+
+    public GenerationResult(Map<String, String> outputs, List<String> timedOutEndpoints, Duration duration) {
+        this.outputs = outputs;
+        this.timedOutEndpoints = timedOutEndpoints;
+        this.duration = duration;
+    }
+
+    /**
+     * Absolute output path per format, or per {@code <environment>:<format>} for environment
+     * generation.
+     */
+    public Map<String, String> getOutputs() {
+        return outputs;
+    }
+
+    /**
+     * Endpoints ({@code <path>_<METHOD>}) written as placeholders because introspection timed out.
+     */
+    public List<String> getTimedOutEndpoints() {
+        return timedOutEndpoints;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Whether some endpoints were written as placeholders.
+     */
+    public boolean isPartial() {
+        return !timedOutEndpoints.isEmpty();
+    }
+}
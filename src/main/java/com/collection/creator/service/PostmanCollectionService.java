@@ -1,25 +1,37 @@
 package com.collection.creator.service;
 
+import com.collection.creator.catalog.EndpointCatalog;
 import com.collection.creator.config.PostmanCollectionProperties;
-import com.collection.creator.model.Body;
-import com.collection.creator.model.Header;
-import com.collection.creator.model.Info;
-import com.collection.creator.model.Item;
-import com.collection.creator.model.Options;
+import com.collection.creator.endpoint.ApiDefinition;
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.endpoint.RequestParamDefaults;
+import com.collection.creator.index.EndpointIndex;
+import com.collection.creator.index.IndexedEndpoint;
+import com.collection.creator.metrics.GenerationMetrics;
 import com.collection.creator.model.PostmanRequest;
-import com.collection.creator.model.Raw;
-import com.collection.creator.model.Request;
+import com.collection.creator.sampling.RequestSample;
+import com.collection.creator.sampling.RequestSampleStore;
+import com.collection.creator.sla.SlaResolver;
+import com.collection.creator.writer.CollectionWriter;
+import com.collection.creator.writer.HarWriter;
+import com.collection.creator.writer.OpenApiWriter;
+import com.collection.creator.writer.PostmanCollectionWriter;
+import com.collection.creator.writer.PostmanEnvironmentWriter;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.collect.Lists;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
-import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.ClassUtils;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMethod;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -29,130 +41,602 @@ import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandl
 import org.springframework.web.util.pattern.PathPattern;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
-import java.nio.file.Files;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLongArray;
 
 /**
  * Service for generating Postman collections from Spring REST endpoints.
  * 
- * <p>This service introspects all registered Spring MVC endpoints and generates
- * a Postman Collection v2.0.0 compatible JSON file.
+ * <p>This service introspects all registered Spring MVC endpoints once into a format-neutral
+ * {@link ApiDefinition} and hands it to the configured {@link CollectionWriter}s, which write
+ * their outputs (Postman v2.0/v2.1, OpenAPI 3, HAR) in parallel.
  */
-public class PostmanCollectionService {
+public class PostmanCollectionService implements DisposableBean {
+
+    /**
+     * Output key suffix for Postman environment files.
+     */
+    public static final String ENVIRONMENT_FORMAT = "postman-environment";
+
+    static final String BASE_URL_VARIABLE = "baseUrl";
+    static final String AUTHORIZATION_VARIABLE = "authorizationHeader";
+    static final String TIMED_OUT_SUFFIX = " (introspection timed out)";
+
+    private static final ThreadFactory INTROSPECTION_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("postman-introspection-%d")
+            .setDaemon(true)
+            .build();
+
+    private static final ThreadFactory WRITER_THREAD_FACTORY = new ThreadFactoryBuilder()
+            .setNameFormat("postman-writer-%d")
+            .setDaemon(true)
+            .build();
+
+    /**
+     * Endpoint order with {@code output.sorted}: path, then HTTP method.
+     */
+    private static final Comparator<EndpointDefinition> ENDPOINT_ORDER = Comparator
+            .comparing(EndpointDefinition::getPath)
+            .thenComparing(EndpointDefinition::getMethod);
 
     private static final Logger logger = LoggerFactory.getLogger(PostmanCollectionService.class);
 
     private final ApplicationContext applicationContext;
     private final PostmanCollectionProperties properties;
     private final ObjectMapper objectMapper;
+    private final Map<String, CollectionWriter> writers;
+    private final PostmanEnvironmentWriter environmentWriter;
+    private final Supplier<EndpointIndex> endpointIndex = Suppliers.memoize(this::loadEndpointIndex);
+    private final ThreadPoolExecutor writerExecutor;
 
     public PostmanCollectionService(ApplicationContext applicationContext, 
                                    PostmanCollectionProperties properties,
                                    ObjectMapper objectMapper) {
+        this(applicationContext, properties, objectMapper, defaultWriters(properties, objectMapper));
+    }
+
+    public PostmanCollectionService(ApplicationContext applicationContext,
+                                   PostmanCollectionProperties properties,
+                                   ObjectMapper objectMapper,
+                                   List<CollectionWriter> writers) {
         this.applicationContext = applicationContext;
         this.properties = properties;
         this.objectMapper = objectMapper;
+        this.environmentWriter = new PostmanEnvironmentWriter(objectMapper);
+        this.writers = new LinkedHashMap<>();
+        for (CollectionWriter writer : writers) {
+            this.writers.putIfAbsent(writer.getFormat(), writer);
+        }
+        // Shared by all generations; idle threads time out, so the pool costs nothing between runs
+        int writerThreads = Math.max(1, Math.min(this.writers.size(), Runtime.getRuntime().availableProcessors()));
+        this.writerExecutor = new ThreadPoolExecutor(writerThreads, writerThreads, 30, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), WRITER_THREAD_FACTORY);
+        this.writerExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Shut down the output writer threads.
+     */
+    @Override
+    public void destroy() {
+        writerExecutor.shutdownNow();
+    }
+
+    /**
+     * Create the built-in writers for every supported format.
+     */
+    public static List<CollectionWriter> defaultWriters(PostmanCollectionProperties properties,
+                                                       ObjectMapper objectMapper) {
+        return List.of(
+                new PostmanCollectionWriter(properties, objectMapper, false),
+                new PostmanCollectionWriter(properties, objectMapper, true),
+                new OpenApiWriter(objectMapper, true),
+                new OpenApiWriter(objectMapper, false),
+                new HarWriter(objectMapper));
     }
 
     /**
      * Generate Postman collection and save to file.
      * 
+     * <p>All formats configured in {@code output.formats} are written; the path of the first
+     * one is returned.
+     * 
      * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
      * @return Path to the generated collection file
      * @throws IOException if file writing fails
      */
     public String generateCollection(String apiPostFix) throws IOException {
+        Map<String, String> outputs = generateOutputs(apiPostFix);
+        return outputs.values().iterator().next();
+    }
+
+    /**
+     * Generate every configured output format from a single introspection pass.
+     *
+     * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
+     * @return Absolute output path per format, in the configured order
+     * @throws IOException if file writing fails
+     */
+    public Map<String, String> generateOutputs(String apiPostFix) throws IOException {
+        return generateOutputs(apiPostFix, properties.getOutput().getFormats());
+    }
+
+    /**
+     * Generate the given output formats from a single introspection pass.
+     *
+     * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
+     * @param formats Formats to write, e.g. {@code postman-v2.1} or {@code openapi-yaml}
+     * @return Absolute output path per format, in the given order
+     * @throws IOException if file writing fails
+     * @throws IllegalArgumentException if no writer is registered for a format
+     */
+    public Map<String, String> generateOutputs(String apiPostFix, Collection<String> formats) throws IOException {
+        return generate(apiPostFix, formats).getOutputs();
+    }
+
+    /**
+     * Generate every configured output format and report endpoints that ran out of time budget.
+     *
+     * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
+     * @return Output paths per format plus the endpoints written as timed-out placeholders
+     * @throws IOException if file writing fails
+     */
+    public GenerationResult generate(String apiPostFix) throws IOException {
+        return generate(apiPostFix, properties.getOutput().getFormats());
+    }
+
+    /**
+     * Generate the given output formats and report endpoints that ran out of time budget.
+     *
+     * <p>When {@code generation.timeout} or {@code generation.endpoint-timeout} is set, endpoints
+     * are introspected in parallel and cancelled once they overrun; the outputs still contain
+     * every endpoint that finished plus a placeholder for each one that did not.
+     *
+     * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
+     * @param formats Formats to write, e.g. {@code postman-v2.1} or {@code openapi-yaml}
+     * @return Output paths per format plus the endpoints written as timed-out placeholders
+     * @throws IOException if file writing fails
+     * @throws IllegalArgumentException if no writer is registered for a format
+     */
+    public GenerationResult generate(String apiPostFix, Collection<String> formats) throws IOException {
         logger.info("Starting Postman collection generation");
-        
-        String baseUrl = determineBaseUrl(apiPostFix);
-        PostmanRequest postmanRequest = buildPostmanCollection(baseUrl);
-        String outputPath = writeCollectionToFile(postmanRequest);
-        
-        logger.info("Postman collection generated successfully at: {}", outputPath);
-        return outputPath;
+        long start = System.nanoTime();
+
+        List<CollectionWriter> selectedWriters = resolveWriters(formats);
+        ApiDefinition api = buildApiDefinition(apiPostFix);
+
+        Map<String, Callable<String>> tasks = new LinkedHashMap<>();
+        for (CollectionWriter writer : selectedWriters) {
+            tasks.put(writer.getFormat(), () -> writeOutput(api, writer, properties.getOutput().getFilename()));
+        }
+        Map<String, String> outputs = runInParallel(tasks);
+
+        GenerationResult result = new GenerationResult(outputs, api.getTimedOutEndpoints(),
+                Duration.ofNanos(System.nanoTime() - start));
+        recordMetrics(result, api.getEndpoints().size());
+
+        logger.info("Postman collection generated successfully at: {}", outputs.values());
+        return result;
     }
 
     /**
-     * Determine the base URL to use for the collection.
+     * Generate a variant of every configured output format for each configured environment.
+     * See {@link #generateEnvironments()}, which also reports endpoints that ran out of time budget.
+     *
+     * @return Absolute output path per {@code <environment>:<format>} key (or per format for the
+     *         shared collection in environment-files mode)
+     * @throws IOException if file writing fails
+     * @throws IllegalStateException if no environments are configured, or environment files are
+     *         enabled and the environments use different authorization header names
      */
-    private String determineBaseUrl(String apiPostFix) {
-        if (StringUtils.isNotBlank(properties.getBaseUrl())) {
-            return properties.getBaseUrl();
+    public Map<String, String> generateEnvironmentCollections() throws IOException {
+        return generateEnvironments().getOutputs();
+    }
+
+    /**
+     * Generate a variant of every configured output format for each configured environment,
+     * from a single introspection pass.
+     *
+     * <p>By default each environment gets its own files with its base URL and authorization
+     * header baked in, e.g. {@code collection.dev.json}. With {@code environment-files=true} a
+     * single collection using {@code {{baseUrl}}} and {@code {{authorizationHeader}}} is written,
+     * plus one Postman environment file per environment. The shared collection has a single
+     * authorization header name, so the environments must agree on it.
+     *
+     * @return Output paths per {@code <environment>:<format>} key (or per format for the shared
+     *         collection in environment-files mode) plus the endpoints written as timed-out
+     *         placeholders
+     * @throws IOException if file writing fails
+     * @throws IllegalStateException if no environments are configured, or environment files are
+     *         enabled and the environments use different authorization header names
+     */
+    public GenerationResult generateEnvironments() throws IOException {
+        Map<String, PostmanCollectionProperties.Environment> environments = properties.getEnvironments();
+        if (MapUtils.isEmpty(environments)) {
+            throw new IllegalStateException(
+                    "No environments configured under postman.collection.generator.environments");
         }
-        return StringUtils.defaultString(apiPostFix, "");
+        logger.info("Starting Postman collection generation for environments {}", environments.keySet());
+
+        long start = System.nanoTime();
+        List<CollectionWriter> selectedWriters = resolveWriters(properties.getOutput().getFormats());
+        String sharedHeaderName = properties.isEnvironmentFiles() ? sharedHeaderName(environments) : null;
+        List<String> timedOutEndpoints = new ArrayList<>();
+        List<EndpointDefinition> endpoints = introspectEndpoints(timedOutEndpoints);
+        String fileName = properties.getOutput().getFilename();
+        PostmanCollectionProperties.Authorization authorization = properties.getAuthorization();
+
+        Map<String, Callable<String>> tasks = new LinkedHashMap<>();
+        if (properties.isEnvironmentFiles()) {
+            ApiDefinition api = createApiDefinition(properties.getCollection().getName(),
+                    "{{" + BASE_URL_VARIABLE + "}}",
+                    createHeaders(sharedHeaderName, "{{" + AUTHORIZATION_VARIABLE + "}}"),
+                    endpoints, timedOutEndpoints);
+            for (CollectionWriter writer : selectedWriters) {
+                tasks.put(writer.getFormat(), () -> writeOutput(api, writer, fileName));
+            }
+            environments.forEach((name, environment) -> tasks.put(name + ":" + ENVIRONMENT_FORMAT,
+                    () -> writeEnvironmentFile(name, environment, fileName)));
+        } else {
+            environments.forEach((name, environment) -> {
+                ApiDefinition api = createApiDefinition(
+                        properties.getCollection().getName() + " (" + name + ")",
+                        environment.getBaseUrl(),
+                        createHeaders(StringUtils.defaultIfBlank(environment.getHeaderName(), authorization.getHeaderName()),
+                                StringUtils.defaultIfBlank(environment.getHeaderValue(), authorization.getHeaderValue())),
+                        endpoints, timedOutEndpoints);
+                String environmentFileName = environmentFileName(fileName, name, "");
+                for (CollectionWriter writer : selectedWriters) {
+                    tasks.put(name + ":" + writer.getFormat(), () -> writeOutput(api, writer, environmentFileName));
+                }
+            });
+        }
+        Map<String, String> outputs = runInParallel(tasks);
+        GenerationResult result = new GenerationResult(outputs, timedOutEndpoints,
+                Duration.ofNanos(System.nanoTime() - start));
+        recordMetrics(result, endpoints.size());
+
+        logger.info("Postman collection generated successfully at: {}", outputs.values());
+        return result;
+    }
+
+    /**
+     * Introspect all registered endpoints into a format-neutral definition.
+     *
+     * @param apiPostFix Base URL to prepend to all endpoints (optional if configured in properties)
+     */
+    public ApiDefinition buildApiDefinition(String apiPostFix) {
+        PostmanCollectionProperties.Authorization authorization = properties.getAuthorization();
+        List<String> timedOutEndpoints = new ArrayList<>();
+        List<EndpointDefinition> endpoints = introspectEndpoints(timedOutEndpoints);
+        return createApiDefinition(properties.getCollection().getName(), determineBaseUrl(apiPostFix),
+                createHeaders(authorization.getHeaderName(), authorization.getHeaderValue()),
+                endpoints, timedOutEndpoints);
+    }
+
+    /**
+     * Build an in-memory catalog of all endpoints for path, method and controller queries.
+     *
+     * <p>The catalog is immutable and thread-safe; build it once and query it as often as needed.
+     * Its items are the same as those of a generated Postman collection.
+     *
+     * @param apiPostFix the base URL for the items
+     */
+    public EndpointCatalog buildEndpointCatalog(String apiPostFix) throws IOException {
+        ApiDefinition api = buildApiDefinition(apiPostFix);
+        PostmanRequest collection = new PostmanCollectionWriter(properties, objectMapper, false).toPostmanRequest(api);
+        EndpointCatalog catalog = EndpointCatalog.build(api.getEndpoints(), collection.getItem());
+        logger.info("Built endpoint catalog with {} endpoints", catalog.size());
+        return catalog;
     }
 
     /**
-     * Build the complete Postman collection structure.
+     * Introspect all registered endpoints, collecting the names of those that timed out.
      */
-    private PostmanRequest buildPostmanCollection(String baseUrl) {
+    private List<EndpointDefinition> introspectEndpoints(List<String> timedOutEndpoints) {
         RequestMappingHandlerMapping requestMappingHandlerMapping =
                 applicationContext.getBean("requestMappingHandlerMapping",
                         RequestMappingHandlerMapping.class);
         
         Map<RequestMappingInfo, HandlerMethod> handlerMethods = requestMappingHandlerMapping.getHandlerMethods();
-        
-        PostmanRequest postmanRequest = new PostmanRequest();
-        postmanRequest.setInfo(createCollectionInfo());
-        postmanRequest.setItem(createCollectionItems(handlerMethods, baseUrl));
-        
-        return postmanRequest;
+        RequestSampleStore sampleStore = applicationContext.getBeanProvider(RequestSampleStore.class).getIfAvailable();
+        EndpointIndex index = properties.getIndex().isEnabled() ? endpointIndex.get() : EndpointIndex.empty();
+
+        PostmanCollectionProperties.Generation generation = properties.getGeneration();
+        List<EndpointDefinition> endpoints;
+        if (generation.getTimeout() == null && generation.getEndpointTimeout() == null) {
+            endpoints = new ArrayList<>();
+            for (Map.Entry<RequestMappingInfo, HandlerMethod> entry : handlerMethods.entrySet()) {
+                endpoints.addAll(createEndpoints(entry.getKey(), entry.getValue(), sampleStore, index));
+            }
+        } else {
+            endpoints = createEndpointsWithinBudget(handlerMethods, sampleStore, index, timedOutEndpoints);
+        }
+        if (properties.getOutput().isSorted()) {
+            endpoints.sort(ENDPOINT_ORDER);
+        }
+        return endpoints;
     }
 
     /**
-     * Create collection metadata.
+     * Load the compile-time endpoint index once; it cannot change while the application runs.
      */
-    private Info createCollectionInfo() {
-        Info info = new Info();
-        info.setName(properties.getCollection().getName());
-        info.setSchema(properties.getCollection().getSchema());
-        return info;
+    private EndpointIndex loadEndpointIndex() {
+        ClassLoader classLoader = applicationContext.getClassLoader() != null
+                ? applicationContext.getClassLoader() : ClassUtils.getDefaultClassLoader();
+        EndpointIndex index = EndpointIndex.load(classLoader, objectMapper);
+        if (!index.isEmpty()) {
+            logger.info("Using compile-time endpoint index with {} handler methods", index.size());
+        }
+        return index;
     }
 
     /**
-     * Create collection items from all registered endpoints.
+     * Create a definition for one target; the endpoint list is shared, not copied.
      */
-    private List<Item> createCollectionItems(Map<RequestMappingInfo, HandlerMethod> handlerMethods, String baseUrl) {
-        List<Item> itemList = new ArrayList<>();
-        
-        handlerMethods.forEach((requestMappingInfo, handlerMethod) -> {
-            try {
-                Set<PathPattern> urlPatterns = requestMappingInfo.getPathPatternsCondition().getPatterns();
-                Set<RequestMethod> httpMethods = requestMappingInfo.getMethodsCondition().getMethods();
-                
-                if (CollectionUtils.isEmpty(urlPatterns) || CollectionUtils.isEmpty(httpMethods)) {
-                    return;
-                }
-                
-                Map<String, Object> requestBodyDefaults = new HashMap<>();
-                Map<String, Object> requestParamDefaults = new HashMap<>();
-                
+    private ApiDefinition createApiDefinition(String name, String baseUrl, Map<String, String> headers,
+                                              List<EndpointDefinition> endpoints, List<String> timedOutEndpoints) {
+        ApiDefinition api = new ApiDefinition();
+        api.setName(name);
+        api.setBaseUrl(baseUrl);
+        api.setHeaders(headers);
+        api.setEndpoints(endpoints);
+        api.setTimedOutEndpoints(timedOutEndpoints);
+        return api;
+    }
+
+    /**
+     * Determine the base URL to use for the collection.
+     */
+    private String determineBaseUrl(String apiPostFix) {
+        if (StringUtils.isNotBlank(properties.getBaseUrl())) {
+            return properties.getBaseUrl();
+        }
+        return StringUtils.defaultString(apiPostFix, "");
+    }
+
+    /**
+     * Resolve the writers for the requested formats.
+     */
+    private List<CollectionWriter> resolveWriters(Collection<String> formats) {
+        if (CollectionUtils.isEmpty(formats)) {
+            return List.of(writers.get(PostmanCollectionWriter.FORMAT_V2_0));
+        }
+
+        List<CollectionWriter> selectedWriters = new ArrayList<>();
+        for (String format : formats) {
+            CollectionWriter writer = writers.get(StringUtils.trim(format));
+            if (writer == null) {
+                throw new IllegalArgumentException("No collection writer registered for format '" + format
+                        + "'. Available formats: " + writers.keySet());
+            }
+            if (!selectedWriters.contains(writer)) {
+                selectedWriters.add(writer);
+            }
+        }
+        return selectedWriters;
+    }
+
+    /**
+     * Create format-neutral endpoint definitions for one handler method.
+     */
+    private List<EndpointDefinition> createEndpoints(RequestMappingInfo requestMappingInfo, HandlerMethod handlerMethod,
+                                                     RequestSampleStore sampleStore, EndpointIndex index) {
+        List<EndpointDefinition> endpoints = new ArrayList<>();
+        try {
+            Set<PathPattern> urlPatterns = requestMappingInfo.getPathPatternsCondition().getPatterns();
+            Set<RequestMethod> httpMethods = requestMappingInfo.getMethodsCondition().getMethods();
+            
+            if (CollectionUtils.isEmpty(urlPatterns) || CollectionUtils.isEmpty(httpMethods)) {
+                return endpoints;
+            }
+            
+            Map<String, Object> requestBodyDefaults = new LinkedHashMap<>();
+            Map<String, Object> requestParamDefaults = new LinkedHashMap<>();
+
+            IndexedEndpoint indexed = findIndexed(index, handlerMethod, urlPatterns, httpMethods);
+            if (indexed != null) {
+                requestBodyDefaults.putAll(indexed.getBodyDefaults());
+                requestParamDefaults.putAll(indexed.getQueryParameters());
+            } else {
                 extractParameterDefaults(handlerMethod, requestBodyDefaults, requestParamDefaults);
-                
-                for (PathPattern pattern : urlPatterns) {
-                    for (RequestMethod method : httpMethods) {
-                        Item item = createItem(pattern, method, baseUrl, requestBodyDefaults, requestParamDefaults);
-                        itemList.add(item);
+            }
+            
+            for (PathPattern pattern : urlPatterns) {
+                for (RequestMethod method : httpMethods) {
+                    EndpointDefinition endpoint = createEndpoint(pattern, method, handlerMethod,
+                            requestBodyDefaults, requestParamDefaults);
+                    if (sampleStore != null) {
+                        applySamples(endpoint, sampleStore.getSamples(endpoint.getMethod(), endpoint.getPath()));
                     }
+                    endpoints.add(endpoint);
                 }
-            } catch (Exception e) {
-                logger.warn("Failed to process endpoint: {}", handlerMethod.getMethod().getName(), e);
             }
-        });
-        
-        return itemList;
+        } catch (CancellationException e) {
+            throw e;
+        } catch (Exception e) {
+            logger.warn("Failed to process endpoint: {}", handlerMethod.getMethod().getName(), e);
+        }
+        return endpoints;
+    }
+
+    /**
+     * Introspect handler methods in parallel, enforcing the global deadline and the per-endpoint
+     * budget. Overrunning tasks are cancelled with an interrupt and replaced by placeholders.
+     */
+    private List<EndpointDefinition> createEndpointsWithinBudget(Map<RequestMappingInfo, HandlerMethod> handlerMethods,
+                                                                 RequestSampleStore sampleStore,
+                                                                 EndpointIndex endpointIndex,
+                                                                 List<String> timedOutEndpoints) {
+        PostmanCollectionProperties.Generation generation = properties.getGeneration();
+        long deadline = saturatedAdd(System.nanoTime(), generation.getTimeout());
+        long endpointBudget = generation.getEndpointTimeout() != null
+                ? generation.getEndpointTimeout().toNanos() : Long.MAX_VALUE;
+
+        List<Map.Entry<RequestMappingInfo, HandlerMethod>> entries = new ArrayList<>(handlerMethods.entrySet());
+        AtomicLongArray startTimes = new AtomicLongArray(entries.size());
+        List<Future<List<EndpointDefinition>>> futures = new ArrayList<>(entries.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(entries.size(), Runtime.getRuntime().availableProcessors())),
+                INTROSPECTION_THREAD_FACTORY);
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                int index = i;
+                Map.Entry<RequestMappingInfo, HandlerMethod> entry = entries.get(i);
+                futures.add(executor.submit(() -> {
+                    startTimes.set(index, System.nanoTime());
+                    return createEndpoints(entry.getKey(), entry.getValue(), sampleStore, endpointIndex);
+                }));
+            }
+
+            List<EndpointDefinition> endpoints = new ArrayList<>();
+            for (int i = 0; i < futures.size(); i++) {
+                List<EndpointDefinition> created = awaitWithinBudget(futures.get(i), startTimes, i, deadline,
+                        endpointBudget);
+                if (created == null) {
+                    List<EndpointDefinition> placeholders = createPlaceholders(entries.get(i).getKey(),
+                            entries.get(i).getValue());
+                    placeholders.forEach(placeholder -> timedOutEndpoints.add(placeholder.getPath() + "_"
+                            + placeholder.getMethod()));
+                    endpoints.addAll(placeholders);
+                } else {
+                    endpoints.addAll(created);
+                }
+            }
+
+            if (!timedOutEndpoints.isEmpty()) {
+                logger.warn("Introspection timed out for {} endpoint(s), emitted placeholders: {}",
+                        timedOutEndpoints.size(), timedOutEndpoints);
+            }
+            return endpoints;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while introspecting endpoints");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Wait for one introspection task; returns {@code null} and cancels it once its budget or the
+     * global deadline is exhausted. A task that has not started yet only counts against the deadline.
+     */
+    static List<EndpointDefinition> awaitWithinBudget(Future<List<EndpointDefinition>> future,
+                                                      AtomicLongArray startTimes, int index,
+                                                      long deadline, long endpointBudget)
+            throws InterruptedException {
+        while (true) {
+            long started = startTimes.get(index);
+            long limit = started == 0 ? deadline : Math.min(deadline, saturatedAdd(started, endpointBudget));
+            long remaining = limit - System.nanoTime();
+            // Finished work is always kept, even when the deadline has passed meanwhile
+            if (remaining <= 0 && !future.isDone()) {
+                future.cancel(true);
+                return null;
+            }
+            try {
+                long wait = started == 0 ? Math.min(remaining, endpointBudget) : remaining;
+                return future.get(Math.max(wait, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                // Re-evaluate: the task may have started since, which starts its own budget
+            } catch (ExecutionException e) {
+                logger.warn("Failed to process endpoint", e.getCause());
+                return List.of();
+            } catch (CancellationException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Create placeholder endpoints for a handler method whose introspection timed out.
+     */
+    private List<EndpointDefinition> createPlaceholders(RequestMappingInfo requestMappingInfo,
+                                                        HandlerMethod handlerMethod) {
+        List<EndpointDefinition> placeholders = new ArrayList<>();
+        Set<PathPattern> urlPatterns = requestMappingInfo.getPathPatternsCondition().getPatterns();
+        Set<RequestMethod> httpMethods = requestMappingInfo.getMethodsCondition().getMethods();
+        if (CollectionUtils.isEmpty(urlPatterns) || CollectionUtils.isEmpty(httpMethods)) {
+            return placeholders;
+        }
+
+        for (PathPattern pattern : urlPatterns) {
+            for (RequestMethod method : httpMethods) {
+                EndpointDefinition placeholder = createEndpoint(pattern, method, handlerMethod,
+                        new LinkedHashMap<>(), new LinkedHashMap<>());
+                placeholder.setName(placeholder.getName() + TIMED_OUT_SUFFIX);
+                placeholder.setTimedOut(true);
+                placeholders.add(placeholder);
+            }
+        }
+        return placeholders;
+    }
+
+    private static long saturatedAdd(long start, Duration duration) {
+        return duration == null ? Long.MAX_VALUE : saturatedAdd(start, duration.toNanos());
+    }
+
+    private static long saturatedAdd(long start, long nanos) {
+        long sum = start + nanos;
+        return ((start ^ sum) & (nanos ^ sum)) < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    /**
+     * Report the outcome of a generation to the registered metrics, if any.
+     */
+    private void recordMetrics(GenerationResult result, int endpointCount) {
+        applicationContext.getBeanProvider(GenerationMetrics.class)
+                .ifAvailable(metrics -> metrics.recordGeneration(result.getDuration(), endpointCount,
+                        result.getTimedOutEndpoints().size()));
+    }
+
+    /**
+     * Index entry for a handler, provided it still matches the live paths and methods.
+     */
+    private static IndexedEndpoint findIndexed(EndpointIndex index, HandlerMethod handlerMethod,
+                                               Set<PathPattern> urlPatterns, Set<RequestMethod> httpMethods) {
+        IndexedEndpoint indexed = index.find(handlerMethod.getMethod());
+        if (indexed == null) {
+            return null;
+        }
+        List<String> paths = urlPatterns.stream().map(PathPattern::getPatternString).toList();
+        List<String> methods = httpMethods.stream().map(RequestMethod::name).toList();
+        if (!indexed.matches(paths, methods)) {
+            logger.debug("Endpoint index entry for {} does not match the live mapping {} {}, reflecting instead",
+                    handlerMethod, methods, paths);
+            return null;
+        }
+        return indexed;
     }
 
     /**
@@ -168,6 +652,7 @@ public class PostmanCollectionService {
         }
         
         for (Parameter parameter : parameters) {
+            checkNotCancelled();
             Annotation[] annotations = parameter.getAnnotations();
             
             if (Arrays.stream(annotations).anyMatch(a -> a instanceof RequestBody)) {
@@ -178,12 +663,22 @@ public class PostmanCollectionService {
         }
     }
 
+    /**
+     * Stop introspection cooperatively once the task has been cancelled.
+     */
+    private static void checkNotCancelled() {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Endpoint introspection cancelled");
+        }
+    }
+
     /**
      * Extract default values for @RequestBody parameters.
      */
     private void extractRequestBodyDefaults(Parameter parameter, Map<String, Object> requestBodyDefaults) {
         List<Field> fieldList = FieldUtils.getAllFieldsList(parameter.getType());
         for (Field field : fieldList) {
+            checkNotCancelled();
             Class<?> fieldType = field.getType();
             requestBodyDefaults.put(field.getName(), getDefaultValueForType(fieldType));
         }
@@ -202,123 +697,173 @@ public class PostmanCollectionService {
         if (annotation == null) {
             return;
         }
-        
-        Object data = null;
-        if (StringUtils.isNotBlank(annotation.defaultValue()
-                .replaceAll("\n\t\t\n\t\t\n\ue000\ue001\ue002\n\t\t\t\t\n", "").trim())) {
-            data = annotation.defaultValue();
-        } else {
-            data = getDefaultValueForType(parameter.getType());
-        }
-        
-        String paramName = StringUtils.isNotBlank(annotation.value().trim()) ?
-                annotation.value() : parameter.getName();
-        
-        if (data == null || StringUtils.isBlank(data.toString())) {
-            data = "{" + paramName + "}";
+
+        RequestParamDefaults.put(requestParamDefaults, annotation.value(), annotation.defaultValue(),
+                parameter.getName(), getDefaultValueForType(parameter.getType()));
+    }
+
+    /**
+     * Create a single endpoint definition.
+     */
+    private EndpointDefinition createEndpoint(PathPattern pattern, RequestMethod method, HandlerMethod handlerMethod,
+                                              Map<String, Object> requestBodyDefaults,
+                                              Map<String, Object> requestParamDefaults) {
+        EndpointDefinition endpoint = new EndpointDefinition();
+        endpoint.setName(pattern.getPatternString() + "_" + method.name().toUpperCase());
+        endpoint.setMethod(method.name().toUpperCase());
+        endpoint.setPath(pattern.getPatternString());
+        endpoint.setController(handlerMethod.getBeanType().getSimpleName());
+        endpoint.setControllerClass(handlerMethod.getBeanType().getName());
+        endpoint.setHandlerMethod(handlerMethod.getMethod().getName());
+        endpoint.setBodyDefaults(requestBodyDefaults);
+        endpoint.setQueryParameters(requestParamDefaults);
+        if (properties.getSla().isEnabled()) {
+            SlaResolver.apply(properties.getSla(), endpoint, handlerMethod);
         }
-        
-        requestParamDefaults.put(paramName, data);
+        return endpoint;
     }
 
     /**
-     * Create a single collection item for an endpoint.
+     * Use the latest captured sample as the endpoint's body and query parameters and keep
+     * the older ones as examples. Only JSON object bodies can replace the generated defaults.
      */
-    private Item createItem(PathPattern pattern, RequestMethod method, String baseUrl,
-                           Map<String, Object> requestBodyDefaults,
-                           Map<String, Object> requestParamDefaults) throws JsonProcessingException {
-        Item item = new Item();
-        item.setName(pattern.getPatternString() + "_" + method.name().toUpperCase());
-        
-        Request request = new Request();
-        request.setMethod(method.name().toUpperCase());
-        request.setHeader(createHeaders());
-        
-        if (MapUtils.isNotEmpty(requestBodyDefaults)) {
-            request.setBody(createBody(requestBodyDefaults));
+    private void applySamples(EndpointDefinition endpoint, List<RequestSample> samples) {
+        if (samples.isEmpty()) {
+            return;
         }
-        
-        request.setUrl(buildUrl(baseUrl, pattern.getPatternString(), requestParamDefaults));
-        
-        item.setRequest(request);
-        return item;
+
+        RequestSample latest = samples.get(0);
+        if (latest.getBody() != null) {
+            try {
+                Object body = objectMapper.readValue(latest.getBody(), Object.class);
+                if (body instanceof Map<?, ?> map) {
+                    Map<String, Object> bodyDefaults = new LinkedHashMap<>();
+                    map.forEach((key, value) -> bodyDefaults.put(String.valueOf(key), value));
+                    endpoint.setBodyDefaults(bodyDefaults);
+                }
+            } catch (JsonProcessingException e) {
+                logger.debug("Ignoring unparsable sample body for {}", endpoint.getName(), e);
+            }
+        }
+        if (StringUtils.isNotBlank(latest.getQueryString())) {
+            Map<String, Object> queryParameters = new LinkedHashMap<>();
+            for (String param : latest.getQueryString().split("&")) {
+                queryParameters.put(URLDecoder.decode(StringUtils.substringBefore(param, "="), StandardCharsets.UTF_8),
+                        URLDecoder.decode(StringUtils.substringAfter(param, "="), StandardCharsets.UTF_8));
+            }
+            endpoint.setQueryParameters(queryParameters);
+        }
+        endpoint.setExamples(new ArrayList<>(samples.subList(1, samples.size())));
     }
 
     /**
-     * Create request headers.
+     * Create request headers shared by all endpoints.
      */
-    private List<Header> createHeaders() {
-        List<Header> headers = new ArrayList<>();
+    private Map<String, String> createHeaders(String headerName, String headerValue) {
+        Map<String, String> headers = new LinkedHashMap<>();
         
         if (properties.getAuthorization().isEnabled()) {
-            Header authHeader = new Header();
-            authHeader.setKey(properties.getAuthorization().getHeaderName());
-            authHeader.setValue(properties.getAuthorization().getHeaderValue());
-            authHeader.setType(properties.getAuthorization().getHeaderType());
-            headers.add(authHeader);
+            headers.put(headerName, headerValue);
         }
         
         return headers;
     }
 
     /**
-     * Create request body.
+     * The authorization header name of the shared collection in environment-files mode, which
+     * only the header value can vary per environment.
      */
-    private Body createBody(Map<String, Object> requestBodyDefaults) throws JsonProcessingException {
-        Body body = new Body();
-        body.setMode("raw");
-        body.setRaw(objectMapper.writeValueAsString(requestBodyDefaults));
-        
-        Options options = new Options();
-        Raw raw = new Raw();
-        raw.setLanguage("json");
-        options.setRaw(raw);
-        body.setOptions(options);
-        
-        return body;
+    private String sharedHeaderName(Map<String, PostmanCollectionProperties.Environment> environments) {
+        String defaultName = properties.getAuthorization().getHeaderName();
+        Set<String> headerNames = new LinkedHashSet<>();
+        environments.values().forEach(environment ->
+                headerNames.add(StringUtils.defaultIfBlank(environment.getHeaderName(), defaultName)));
+        if (headerNames.size() > 1) {
+            throw new IllegalStateException("Environments use different authorization header names " + headerNames
+                    + ", which environment-files=true cannot express; generate one collection per environment instead");
+        }
+        return headerNames.iterator().next();
     }
 
     /**
-     * Build the complete URL with query parameters.
+     * Run the write tasks in parallel and collect the output paths in task order.
      */
-    private String buildUrl(String baseUrl, String path, Map<String, Object> requestParamDefaults) {
-        StringBuilder url = new StringBuilder(baseUrl).append(path);
-        
-        if (MapUtils.isNotEmpty(requestParamDefaults)) {
-            url.append("?");
-            List<String> queryParams = new ArrayList<>();
-            for (Map.Entry<String, Object> entry : requestParamDefaults.entrySet()) {
-                queryParams.add(entry.getKey() + "=" + entry.getValue());
+    private Map<String, String> runInParallel(Map<String, Callable<String>> tasks) throws IOException {
+        Map<String, String> outputs = new LinkedHashMap<>();
+
+        if (tasks.size() == 1) {
+            // Nothing to overlap, so write on the calling thread
+            Map.Entry<String, Callable<String>> task = tasks.entrySet().iterator().next();
+            try {
+                outputs.put(task.getKey(), task.getValue().call());
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to write collection outputs", e);
             }
-            url.append(String.join("&", queryParams));
+            return outputs;
         }
-        
-        return url.toString();
+
+        Map<String, Future<String>> futures = new LinkedHashMap<>();
+        try {
+            tasks.forEach((key, task) -> futures.put(key, writerExecutor.submit(task)));
+            for (Map.Entry<String, Future<String>> entry : futures.entrySet()) {
+                outputs.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while writing collection outputs");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to write collection outputs", e.getCause());
+        } finally {
+            futures.values().forEach(future -> future.cancel(true));
+        }
+
+        return outputs;
     }
 
     /**
-     * Write the collection to a file.
+     * Write a single output format next to the configured collection file.
      */
-    private String writeCollectionToFile(PostmanRequest postmanRequest) throws IOException {
-        String finalJson = objectMapper.writerWithDefaultPrettyPrinter()
-                .writeValueAsString(postmanRequest);
-        
-        Path outputPath = Paths.get(properties.getOutput().getFullPath());
-        
-        // Create parent directories if they don't exist
-        if (outputPath.getParent() != null) {
-            Files.createDirectories(outputPath.getParent());
-        }
-        
-        // Delete existing file if present
-        FileUtils.deleteQuietly(outputPath.toFile());
-        
-        // Write new file
-        Files.write(outputPath, finalJson.getBytes());
-        
+    private String writeOutput(ApiDefinition api, CollectionWriter writer, String fileName) throws IOException {
+        Path outputPath = Paths.get(properties.getOutput().getFullPath(writer.resolveFileName(fileName)));
+        writer.write(api, outputPath);
+        logger.debug("Wrote {} output to {}", writer.getFormat(), outputPath);
+        return outputPath.toAbsolutePath().toString();
+    }
+
+    /**
+     * Write the Postman environment file for one environment.
+     */
+    private String writeEnvironmentFile(String name, PostmanCollectionProperties.Environment environment,
+                                        String fileName) throws IOException {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put(BASE_URL_VARIABLE, environment.getBaseUrl());
+        values.put(AUTHORIZATION_VARIABLE,
+                StringUtils.defaultIfBlank(environment.getHeaderValue(), properties.getAuthorization().getHeaderValue()));
+        values.putAll(environment.getVariables());
+
+        Path outputPath = Paths.get(properties.getOutput().getFullPath(
+                environmentFileName(fileName, name, ".postman_environment")));
+        environmentWriter.write(name, values, outputPath);
         return outputPath.toAbsolutePath().toString();
     }
 
+    /**
+     * Insert the environment name before the extension, e.g. {@code collection.dev.json}.
+     */
+    private static String environmentFileName(String fileName, String environment, String suffix) {
+        String extension = FilenameUtils.getExtension(fileName);
+        String name = FilenameUtils.removeExtension(fileName) + "." + environment + suffix;
+        return extension.isEmpty() ? name : name + "." + extension;
+    }
+
     /**
      * Get default value for a given type.
      */
@@ -0,0 +1,34 @@
+package com.collection.creator.sla;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Response-time SLA for a handler method, taking precedence over the
+ * {@code postman.collection.generator.sla} rules and default.
+ *
+ * <pre>
+ * &#64;GetMapping("/api/reports/{id}")
+ * &#64;ResponseTimeSla(value = 5000, status = 200)
+ * public Report getReport(&#64;PathVariable Long id) { ... }
+ * </pre>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ResponseTimeSla {
+
+    /**
+     * Maximum response time in milliseconds.
+     */
+    long value();
+
+    /**
+     * Expected status code; when {@code 0} it comes from a matching rule, the handler's
+     * {@code @ResponseStatus} or 200.
+     */
+    int status() default 0;
+}
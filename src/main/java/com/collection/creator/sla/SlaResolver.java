@@ -0,0 +1,81 @@
+package com.collection.creator.sla;
+
+import com.collection.creator.config.PostmanCollectionProperties;
+import com.collection.creator.endpoint.EndpointDefinition;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.method.HandlerMethod;
+
+/**
+ * Resolves the response-time SLA and expected status of an endpoint. The time comes from a
+ * {@link ResponseTimeSla} on the handler method, else the first matching rule, else the default;
+ * the status from the annotation, the rule, the handler's {@code @ResponseStatus} or 200, in that
+ * order.
+ */
+public final class SlaResolver {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private SlaResolver() {
+    }
+
+    /**
+     * Set {@link EndpointDefinition#getMaxResponseTime()} and
+     * {@link EndpointDefinition#getExpectedStatus()} on an endpoint whose path and method are set.
+     */
+    public static void apply(PostmanCollectionProperties.Sla sla, EndpointDefinition endpoint,
+                             HandlerMethod handlerMethod) {
+        ResponseTimeSla annotation = handlerMethod.getMethodAnnotation(ResponseTimeSla.class);
+        PostmanCollectionProperties.Sla.Rule rule = findRule(sla, endpoint);
+
+        long responseTime;
+        if (annotation != null) {
+            responseTime = annotation.value();
+        } else if (rule != null && rule.getResponseTime() != null) {
+            responseTime = rule.getResponseTime().toMillis();
+        } else {
+            responseTime = sla.getResponseTime().toMillis();
+        }
+
+        int status;
+        if (annotation != null && annotation.status() > 0) {
+            status = annotation.status();
+        } else if (rule != null && rule.getStatus() != null) {
+            status = rule.getStatus();
+        } else {
+            status = declaredStatus(handlerMethod);
+        }
+
+        endpoint.setMaxResponseTime(responseTime);
+        endpoint.setExpectedStatus(status);
+    }
+
+    private static PostmanCollectionProperties.Sla.Rule findRule(PostmanCollectionProperties.Sla sla,
+                                                                 EndpointDefinition endpoint) {
+        for (PostmanCollectionProperties.Sla.Rule rule : sla.getRules()) {
+            if (StringUtils.isBlank(rule.getPattern())) {
+                continue;
+            }
+            if (StringUtils.isNotBlank(rule.getMethod()) && !rule.getMethod().equalsIgnoreCase(endpoint.getMethod())) {
+                continue;
+            }
+            if (PATH_MATCHER.match(rule.getPattern(), endpoint.getPath())) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    private static int declaredStatus(HandlerMethod handlerMethod) {
+        ResponseStatus responseStatus = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(),
+                ResponseStatus.class);
+        if (responseStatus == null) {
+            responseStatus = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(),
+                    ResponseStatus.class);
+        }
+        return responseStatus != null ? responseStatus.code().value() : HttpStatus.OK.value();
+    }
+}
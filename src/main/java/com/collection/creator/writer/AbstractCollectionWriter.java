@@ -0,0 +1,95 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.sampling.RequestSample;
+import org.apache.commons.collections4.MapUtils;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base class with the file handling and URL building shared by the built-in writers.
+ */
+public abstract class AbstractCollectionWriter implements CollectionWriter {
+
+    private static final String QUERY_RESERVED = "%&=#+\"";
+
+    /**
+     * Replace the extension of the configured file name with the given suffix,
+     * e.g. {@code collection.json} becomes {@code collection.openapi.yaml}.
+     */
+    protected static String replaceExtension(String fileName, String suffix) {
+        return FilenameUtils.removeExtension(fileName) + suffix;
+    }
+
+    /**
+     * Build the complete URL with query parameters. Names and values are decoded, as captured from
+     * samples, and are encoded again here.
+     */
+    protected static String buildUrl(String baseUrl, EndpointDefinition endpoint) {
+        StringBuilder url = new StringBuilder(StringUtils.defaultString(baseUrl)).append(endpoint.getPath());
+
+        if (MapUtils.isNotEmpty(endpoint.getQueryParameters())) {
+            url.append("?");
+            List<String> queryParams = new ArrayList<>();
+            for (Map.Entry<String, Object> entry : endpoint.getQueryParameters().entrySet()) {
+                queryParams.add(encodeQueryComponent(entry.getKey()) + "="
+                        + encodeQueryComponent(String.valueOf(entry.getValue())));
+            }
+            url.append(String.join("&", queryParams));
+        }
+
+        return url.toString();
+    }
+
+    /**
+     * Percent-encode the characters that would change the meaning of a query string - delimiters,
+     * spaces, {@code %} and non-ASCII characters - while leaving {@code {name}} placeholders and
+     * Postman {@code {{variables}}} readable.
+     */
+    static String encodeQueryComponent(String value) {
+        StringBuilder encoded = new StringBuilder(value.length());
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            int c = b & 0xFF;
+            if (c <= ' ' || c >= 0x7F || QUERY_RESERVED.indexOf(c) >= 0) {
+                encoded.append('%').append(Character.toUpperCase(Character.forDigit(c >> 4, 16)))
+                        .append(Character.toUpperCase(Character.forDigit(c & 0xF, 16)));
+            } else {
+                encoded.append((char) c);
+            }
+        }
+        return encoded.toString();
+    }
+
+    /**
+     * Build the URL of a captured sample, using its recorded query string.
+     */
+    protected static String buildSampleUrl(String baseUrl, EndpointDefinition endpoint, RequestSample sample) {
+        String url = StringUtils.defaultString(baseUrl) + endpoint.getPath();
+        return StringUtils.isBlank(sample.getQueryString()) ? url : url + "?" + sample.getQueryString();
+    }
+
+    /**
+     * Write the content to a file, creating parent directories and replacing any existing file.
+     */
+    protected static void writeFile(Path outputPath, byte[] content) throws IOException {
+        // Create parent directories if they don't exist
+        if (outputPath.getParent() != null) {
+            Files.createDirectories(outputPath.getParent());
+        }
+
+        // Delete existing file if present
+        FileUtils.deleteQuietly(outputPath.toFile());
+
+        // Write new file
+        Files.write(outputPath, content);
+    }
+}
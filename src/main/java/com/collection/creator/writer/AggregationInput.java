@@ -0,0 +1,57 @@
+package com.collection.creator.writer;
+
+import org.apache.commons.lang3.StringUtils;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * One collection file to aggregate, together with the service it belongs to. Several inputs may
+ * share a service name (for example snapshot files of the same service); they are merged into
+ * the same folder.
+ */
+public final class AggregationInput {
+
+    private final String service;
+    private final Path path;
+
+    public AggregationInput(String service, Path path) {
+        if (StringUtils.isBlank(service)) {
+            throw new IllegalArgumentException("Service name must not be blank for " + path);
+        }
+        this.service = service;
+        this.path = Objects.requireNonNull(path, "path");
+    }
+
+    /**
+     * Input whose service name is the file name without extension, e.g. {@code orders.json}.
+     */
+    public static AggregationInput of(Path path) {
+        String fileName = path.getFileName().toString();
+        return new AggregationInput(StringUtils.substringBefore(fileName, "."), path);
+    }
+
+    /**
+     * Parse {@code service=path} or a plain {@code path}.
+     */
+    public static AggregationInput parse(String value) {
+        int separator = value.indexOf('=');
+        if (separator < 0) {
+            return of(Path.of(value));
+        }
+        return new AggregationInput(value.substring(0, separator), Path.of(value.substring(separator + 1)));
+    }
+
+    public String getService() {
+        return service;
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    @Override
+    public String toString() {
+        return service + "=" + path;
+    }
+}
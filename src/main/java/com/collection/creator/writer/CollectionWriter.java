@@ -0,0 +1,32 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.endpoint.ApiDefinition;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Serializes an {@link ApiDefinition} into one output format.
+ *
+ * <p>Writers are registered as beans and selected through
+ * {@code postman.collection.generator.output.formats}. A single introspection pass feeds every
+ * selected writer, and the writers run in parallel, so implementations must not mutate the
+ * {@link ApiDefinition} they receive.
+ */
+public interface CollectionWriter {
+
+    /**
+     * Identifier of the format produced by this writer (e.g. {@code postman-v2.0}).
+     */
+    String getFormat();
+
+    /**
+     * Resolve the file name for this format from the configured collection file name.
+     */
+    String resolveFileName(String fileName);
+
+    /**
+     * Write the definition to the given path, replacing any existing file.
+     */
+    void write(ApiDefinition api, Path outputPath) throws IOException;
+}
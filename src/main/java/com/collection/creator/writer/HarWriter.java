@@ -0,0 +1,115 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.endpoint.ApiDefinition;
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the definition as a HAR 1.2 log with one entry per endpoint.
+ *
+ * <p>Entries carry the request only; responses and timings are empty placeholders, as
+ * nothing has been sent yet.
+ */
+public class HarWriter extends AbstractCollectionWriter {
+
+    public static final String FORMAT = "har";
+
+    private static final String HTTP_VERSION = "HTTP/1.1";
+
+    private final ObjectMapper objectMapper;
+
+    public HarWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public String getFormat() {
+        return FORMAT;
+    }
+
+    @Override
+    public String resolveFileName(String fileName) {
+        return replaceExtension(fileName, ".har");
+    }
+
+    @Override
+    public void write(ApiDefinition api, Path outputPath) throws IOException {
+        String startedDateTime = Instant.now().toString();
+
+        List<Map<String, Object>> entries = new ArrayList<>(api.getEndpoints().size());
+        for (EndpointDefinition endpoint : api.getEndpoints()) {
+            entries.add(createEntry(api, endpoint, startedDateTime));
+        }
+
+        Map<String, Object> log = new LinkedHashMap<>();
+        log.put("version", "1.2");
+        log.put("creator", Map.of("name", api.getName(), "version", "1.0.0"));
+        log.put("entries", entries);
+
+        writeFile(outputPath, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(Map.of("log", log)));
+    }
+
+    /**
+     * Create a HAR entry for an endpoint.
+     */
+    private Map<String, Object> createEntry(ApiDefinition api, EndpointDefinition endpoint,
+                                            String startedDateTime) throws IOException {
+        List<Map<String, Object>> headers = new ArrayList<>();
+        api.getHeaders().forEach((name, value) -> headers.add(nameValue(name, value)));
+
+        List<Map<String, Object>> queryString = new ArrayList<>();
+        endpoint.getQueryParameters().forEach((name, value) -> queryString.add(nameValue(name, value)));
+
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("method", endpoint.getMethod());
+        request.put("url", buildUrl(api.getBaseUrl(), endpoint));
+        request.put("httpVersion", HTTP_VERSION);
+        request.put("cookies", List.of());
+        request.put("headers", headers);
+        request.put("queryString", queryString);
+        if (endpoint.hasBody()) {
+            Map<String, Object> postData = new LinkedHashMap<>();
+            postData.put("mimeType", "application/json");
+            postData.put("text", objectMapper.writeValueAsString(endpoint.getBodyDefaults()));
+            request.put("postData", postData);
+        }
+        request.put("headersSize", -1);
+        request.put("bodySize", -1);
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("status", 0);
+        response.put("statusText", "");
+        response.put("httpVersion", HTTP_VERSION);
+        response.put("cookies", List.of());
+        response.put("headers", List.of());
+        response.put("content", Map.of("size", 0, "mimeType", ""));
+        response.put("redirectURL", "");
+        response.put("headersSize", -1);
+        response.put("bodySize", -1);
+
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("startedDateTime", startedDateTime);
+        entry.put("time", 0);
+        entry.put("request", request);
+        entry.put("response", response);
+        entry.put("cache", Map.of());
+        entry.put("timings", Map.of("send", 0, "wait", 0, "receive", 0));
+        entry.put("comment", endpoint.getName());
+        return entry;
+    }
+
+    private static Map<String, Object> nameValue(String name, Object value) {
+        Map<String, Object> pair = new LinkedHashMap<>();
+        pair.put("name", name);
+        pair.put("value", String.valueOf(value));
+        return pair;
+    }
+}
@@ -0,0 +1,182 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.endpoint.ApiDefinition;
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.lang3.StringUtils;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Writes the definition as an OpenAPI 3 document, in YAML or JSON.
+ *
+ * <p>Schemas are inferred from the generated default values, so they describe the shape of the
+ * request rather than the full Java type.
+ */
+public class OpenApiWriter extends AbstractCollectionWriter {
+
+    public static final String FORMAT_YAML = "openapi-yaml";
+    public static final String FORMAT_JSON = "openapi-json";
+
+    private static final String OPENAPI_VERSION = "3.0.3";
+    private static final String SECURITY_SCHEME = "authorizationHeader";
+    private static final Pattern PATH_VARIABLE = Pattern.compile("\\{\\*?([^}:]+)(?::[^}]*)?}");
+
+    private final ObjectMapper objectMapper;
+    private final boolean yaml;
+
+    public OpenApiWriter(ObjectMapper objectMapper, boolean yaml) {
+        this.objectMapper = objectMapper;
+        this.yaml = yaml;
+    }
+
+    @Override
+    public String getFormat() {
+        return yaml ? FORMAT_YAML : FORMAT_JSON;
+    }
+
+    @Override
+    public String resolveFileName(String fileName) {
+        return replaceExtension(fileName, yaml ? ".openapi.yaml" : ".openapi.json");
+    }
+
+    @Override
+    public void write(ApiDefinition api, Path outputPath) throws IOException {
+        Map<String, Object> document = toDocument(api);
+
+        byte[] content;
+        if (yaml) {
+            DumperOptions options = new DumperOptions();
+            options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+            options.setPrettyFlow(true);
+            // Shared empty lists/maps would otherwise be emitted as YAML anchors
+            options.setDereferenceAliases(true);
+            content = new Yaml(options).dump(document).getBytes(StandardCharsets.UTF_8);
+        } else {
+            content = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(document);
+        }
+        writeFile(outputPath, content);
+    }
+
+    /**
+     * Build the OpenAPI document as plain maps and lists.
+     */
+    Map<String, Object> toDocument(ApiDefinition api) {
+        Map<String, Object> document = new LinkedHashMap<>();
+        document.put("openapi", OPENAPI_VERSION);
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("title", api.getName());
+        info.put("version", "1.0.0");
+        document.put("info", info);
+
+        if (StringUtils.isNotBlank(api.getBaseUrl())) {
+            document.put("servers", List.of(Map.of("url", api.getBaseUrl())));
+        }
+
+        Map<String, Object> paths = new LinkedHashMap<>();
+        for (EndpointDefinition endpoint : api.getEndpoints()) {
+            String path = PATH_VARIABLE.matcher(endpoint.getPath()).replaceAll("{$1}");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> pathItem = (Map<String, Object>) paths.computeIfAbsent(path, p -> new LinkedHashMap<>());
+            pathItem.put(endpoint.getMethod().toLowerCase(), createOperation(endpoint));
+        }
+        document.put("paths", paths);
+
+        if (!api.getHeaders().isEmpty()) {
+            // Only the first header is the configured authorization header
+            String headerName = api.getHeaders().keySet().iterator().next();
+            Map<String, Object> scheme = new LinkedHashMap<>();
+            scheme.put("type", "apiKey");
+            scheme.put("in", "header");
+            scheme.put("name", headerName);
+            document.put("components", Map.of("securitySchemes", Map.of(SECURITY_SCHEME, scheme)));
+            document.put("security", List.of(Map.of(SECURITY_SCHEME, List.of())));
+        }
+
+        return document;
+    }
+
+    /**
+     * Create the operation object for an endpoint.
+     */
+    private Map<String, Object> createOperation(EndpointDefinition endpoint) {
+        Map<String, Object> operation = new LinkedHashMap<>();
+        operation.put("operationId", endpoint.getName());
+        if (endpoint.getController() != null) {
+            operation.put("tags", List.of(endpoint.getController()));
+        }
+
+        List<Map<String, Object>> parameters = new ArrayList<>();
+        Matcher matcher = PATH_VARIABLE.matcher(endpoint.getPath());
+        while (matcher.find()) {
+            Map<String, Object> parameter = new LinkedHashMap<>();
+            parameter.put("name", matcher.group(1));
+            parameter.put("in", "path");
+            parameter.put("required", true);
+            parameter.put("schema", Map.of("type", "string"));
+            parameters.add(parameter);
+        }
+        endpoint.getQueryParameters().forEach((name, value) -> {
+            Map<String, Object> parameter = new LinkedHashMap<>();
+            parameter.put("name", name);
+            parameter.put("in", "query");
+            parameter.put("schema", Map.of("type", "string"));
+            parameter.put("example", String.valueOf(value));
+            parameters.add(parameter);
+        });
+        if (!parameters.isEmpty()) {
+            operation.put("parameters", parameters);
+        }
+
+        if (endpoint.hasBody()) {
+            Map<String, Object> mediaType = new LinkedHashMap<>();
+            mediaType.put("schema", schemaFor(endpoint.getBodyDefaults()));
+            mediaType.put("example", endpoint.getBodyDefaults());
+            operation.put("requestBody", Map.of("content", Map.of("application/json", mediaType)));
+        }
+
+        operation.put("responses", Map.of("200", Map.of("description", "OK")));
+        return operation;
+    }
+
+    /**
+     * Infer a schema from a generated default value.
+     */
+    private static Map<String, Object> schemaFor(Object value) {
+        Map<String, Object> schema = new LinkedHashMap<>();
+        if (value instanceof Map<?, ?> map) {
+            schema.put("type", "object");
+            Map<String, Object> properties = new LinkedHashMap<>();
+            map.forEach((key, nested) -> properties.put(String.valueOf(key), schemaFor(nested)));
+            if (!properties.isEmpty()) {
+                schema.put("properties", properties);
+            }
+        } else if (value instanceof Collection<?>) {
+            schema.put("type", "array");
+            schema.put("items", Map.of());
+        } else if (value instanceof String || value instanceof Character) {
+            schema.put("type", "string");
+        } else if (value instanceof Double || value instanceof Float) {
+            schema.put("type", "number");
+        } else if (value instanceof Number) {
+            schema.put("type", "integer");
+        } else if (value instanceof Boolean) {
+            schema.put("type", "boolean");
+        } else {
+            schema.put("nullable", true);
+        }
+        return schema;
+    }
+}
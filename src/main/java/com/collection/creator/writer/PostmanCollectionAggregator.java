@@ -0,0 +1,507 @@
+package com.collection.creator.writer;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Aggregates the Postman collections of many services into one collection with a folder per
+ * service, using a streaming k-way merge.
+ *
+ * <p>Every input must list its items sorted by URL path and then HTTP method, which is what the
+ * generator writes with {@code output.sorted=true}. All inputs are opened at once and only the
+ * next pending item of each input is held in memory, so memory is bounded by the number of
+ * inputs rather than their size. Folders are ordered by service name and items within a folder
+ * stay sorted; folders inside an input are flattened into its service folder. When a folder is
+ * flattened, its {@code auth} is copied to the items that have none and its {@code event} scripts
+ * are put before each item's own, outermost folder first, so the items still run the same way.
+ * Folder-level variables cannot be carried over and are dropped with a warning. Inputs with the
+ * same service name are merged into one folder, dropping items with a path and method that was
+ * already written.
+ *
+ * <p>Collection-level {@code auth} and {@code variable} entries are deduplicated. The auth shared
+ * by most services is written once at the top level, and services that differ get their own
+ * folder-level {@code auth}; a service without auth gets {@code noauth} when the collection
+ * declares one, so it does not inherit it. Postman has no way to unset an inherited variable, so
+ * a variable is only hoisted when every service defines it with the same value; all others stay
+ * in the folders of the services that define them.
+ */
+public class PostmanCollectionAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(PostmanCollectionAggregator.class);
+
+    private static final Set<String> FOLDER_SETTINGS = Set.of("auth", "event", "variable");
+
+    private static final ObjectNode EMPTY_SETTINGS = JsonNodeFactory.instance.objectNode();
+
+    private static final Comparator<Head> HEAD_ORDER = Comparator
+            .comparing((Head head) -> head.cursor.service)
+            .thenComparing(head -> head.key)
+            .thenComparingInt(head -> head.cursor.index);
+
+    private final ObjectMapper objectMapper;
+
+    public PostmanCollectionAggregator(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Aggregate the inputs into a single collection named {@code name} at {@code outputPath}.
+     */
+    public void aggregate(String name, List<AggregationInput> inputs, Path outputPath) throws IOException {
+        logger.info("Aggregating {} collections into {}", inputs.size(), outputPath);
+
+        Map<String, Header> headers = new TreeMap<>();
+        List<Map<Integer, ObjectNode>> folderSettings = new ArrayList<>();
+        String schema = null;
+        for (AggregationInput input : inputs) {
+            Map<Integer, ObjectNode> folders = new HashMap<>();
+            Header header = readHeader(input.getPath(), folders);
+            folderSettings.add(folders);
+            schema = StringUtils.defaultIfBlank(schema, header.schema);
+            headers.merge(input.getService(), header, Header::combine);
+        }
+        SharedSettings shared = new SharedSettings(headers);
+
+        Path absolutePath = outputPath.toAbsolutePath();
+        Files.createDirectories(absolutePath.getParent());
+        Path tempPath = Files.createTempFile(absolutePath.getParent(), absolutePath.getFileName().toString(), ".tmp");
+        List<Cursor> cursors = new ArrayList<>();
+        try {
+            for (AggregationInput input : inputs) {
+                cursors.add(new Cursor(input, cursors.size(), folderSettings.get(cursors.size())));
+            }
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.useDefaultPrettyPrinter();
+                writeCollection(generator, name, StringUtils.defaultIfBlank(schema, PostmanCollectionWriter.SCHEMA_V2_1),
+                        shared, headers, cursors);
+            }
+            PostmanCollectionMerger.moveIntoPlace(tempPath, absolutePath);
+        } finally {
+            for (Cursor cursor : cursors) {
+                cursor.close();
+            }
+            Files.deleteIfExists(tempPath);
+        }
+        logger.info("Aggregated collection written to {}", outputPath);
+    }
+
+    private void writeCollection(JsonGenerator generator, String name, String schema, SharedSettings shared,
+                                 Map<String, Header> headers, List<Cursor> cursors) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("info");
+        generator.writeStringField("name", name);
+        generator.writeStringField("schema", schema);
+        generator.writeEndObject();
+        if (shared.auth != null) {
+            generator.writeObjectField("auth", shared.auth);
+        }
+        if (!shared.variables.isEmpty()) {
+            generator.writeObjectField("variable", shared.variables.values());
+        }
+
+        generator.writeArrayFieldStart("item");
+        PriorityQueue<Head> queue = new PriorityQueue<>(Math.max(cursors.size(), 1), HEAD_ORDER);
+        for (Cursor cursor : cursors) {
+            advance(cursor, queue);
+        }
+
+        String currentService = null;
+        ItemKey lastKey = null;
+        while (!queue.isEmpty()) {
+            Head head = queue.poll();
+            String service = head.cursor.service;
+            if (!service.equals(currentService)) {
+                if (currentService != null) {
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+                writeFolderStart(generator, service, headers.get(service), shared);
+                currentService = service;
+                lastKey = null;
+            }
+            if (!head.key.equals(lastKey)) {
+                generator.writeTree(head.item);
+                lastKey = head.key;
+            }
+            advance(head.cursor, queue);
+        }
+        if (currentService != null) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeFolderStart(JsonGenerator generator, String service, Header header, SharedSettings shared)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", service);
+        if (header.auth != null && !header.auth.equals(shared.auth)) {
+            generator.writeObjectField("auth", header.auth);
+        } else if (header.auth == null && shared.auth != null) {
+            generator.writeObjectFieldStart("auth");
+            generator.writeStringField("type", "noauth");
+            generator.writeEndObject();
+        }
+        List<JsonNode> overrides = new ArrayList<>();
+        header.variables.forEach((key, variable) -> {
+            if (!variable.equals(shared.variables.get(key))) {
+                overrides.add(variable);
+            }
+        });
+        if (!overrides.isEmpty()) {
+            generator.writeObjectField("variable", overrides);
+        }
+        generator.writeArrayFieldStart("item");
+    }
+
+    /**
+     * Queue the next item of a cursor, checking that the input is sorted.
+     */
+    private static void advance(Cursor cursor, PriorityQueue<Head> queue) throws IOException {
+        ObjectNode item = cursor.next();
+        if (item == null) {
+            return;
+        }
+        ItemKey key = ItemKey.of(item);
+        if (cursor.lastKey != null && key.compareTo(cursor.lastKey) < 0) {
+            throw new IOException("Collection " + cursor.path + " is not sorted by path and method: "
+                    + key + " follows " + cursor.lastKey);
+        }
+        cursor.lastKey = key;
+        queue.add(new Head(cursor, item, key));
+    }
+
+    /**
+     * Read the schema, auth and variables of a collection, plus the settings of its folders, without
+     * buffering its items.
+     *
+     * @param folders receives the {@code auth}, {@code event} and {@code variable} of each folder
+     *                that has any, keyed by the folder's number in document order
+     */
+    private Header readHeader(Path path, Map<Integer, ObjectNode> folders) throws IOException {
+        Header header = new Header();
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(path)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Collection is not a JSON object: " + path);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "info" -> {
+                        JsonNode info = objectMapper.readTree(parser);
+                        header.schema = info.path("schema").asText(null);
+                    }
+                    case "auth" -> header.auth = nullToMissing(objectMapper.readTree(parser));
+                    case "variable" -> {
+                        JsonNode variables = objectMapper.readTree(parser);
+                        for (JsonNode variable : variables) {
+                            header.variables.putIfAbsent(variable.path("key").asText(), variable);
+                        }
+                    }
+                    case "item" -> {
+                        if (parser.currentToken() == JsonToken.START_ARRAY) {
+                            readFolderSettings(parser, folders, new int[] {0});
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        return header;
+    }
+
+    /**
+     * Collect the settings of the folders in an {@code item} array; the parser is positioned on its
+     * start. Folders are numbered in the order their {@code item} arrays start, which is the order
+     * in which a {@link Cursor} enters them.
+     */
+    private void readFolderSettings(JsonParser parser, Map<Integer, ObjectNode> folders, int[] nextFolder)
+            throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            int folder = -1;
+            ObjectNode settings = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if ("item".equals(fieldName) && valueToken == JsonToken.START_ARRAY) {
+                    folder = nextFolder[0]++;
+                    readFolderSettings(parser, folders, nextFolder);
+                } else if (FOLDER_SETTINGS.contains(fieldName) || "name".equals(fieldName)) {
+                    settings.set(fieldName, objectMapper.readTree(parser));
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (folder >= 0 && FOLDER_SETTINGS.stream().anyMatch(settings::hasNonNull)) {
+                folders.put(folder, settings);
+            }
+        }
+    }
+
+    private static JsonNode nullToMissing(JsonNode node) {
+        return node == null || node.isNull() ? null : node;
+    }
+
+    /**
+     * Sort key of an item: URL path without origin and query string, then upper-case method.
+     */
+    record ItemKey(String path, String method) implements Comparable<ItemKey> {
+
+        private static final Comparator<ItemKey> ORDER = Comparator.comparing(ItemKey::path)
+                .thenComparing(ItemKey::method);
+
+        static ItemKey of(JsonNode item) {
+            JsonNode request = item.path("request");
+            if (request.isTextual()) {
+                return new ItemKey(PostmanCollectionMerger.requestPath(request.asText()), "GET");
+            }
+            String method = StringUtils.upperCase(request.path("method").asText("GET"));
+            return new ItemKey(PostmanCollectionMerger.requestPath(PostmanCollectionMerger.urlOf(request.get("url"))),
+                    method);
+        }
+
+        @Override
+        public int compareTo(ItemKey other) {
+            return ORDER.compare(this, other);
+        }
+
+        @Override
+        public String toString() {
+            return method + " " + path;
+        }
+    }
+
+    /**
+     * Collection-level settings of one service.
+     */
+    private static final class Header {
+        private String schema;
+        private JsonNode auth;
+        private final Map<String, JsonNode> variables = new LinkedHashMap<>();
+
+        private Header combine(Header other) {
+            if (auth == null) {
+                auth = other.auth;
+            }
+            other.variables.forEach(variables::putIfAbsent);
+            return this;
+        }
+    }
+
+    /**
+     * The auth used by most services and the variables all services agree on, written once at the
+     * collection level.
+     */
+    private static final class SharedSettings {
+        private final JsonNode auth;
+        private final Map<String, JsonNode> variables = new LinkedHashMap<>();
+
+        private SharedSettings(Map<String, Header> headers) {
+            Map<JsonNode, Integer> authCounts = new LinkedHashMap<>();
+            Map<String, Map<JsonNode, Integer>> variableCounts = new LinkedHashMap<>();
+            for (Header header : headers.values()) {
+                if (header.auth != null) {
+                    authCounts.merge(header.auth, 1, Integer::sum);
+                }
+                header.variables.forEach((key, variable) -> variableCounts
+                        .computeIfAbsent(key, k -> new LinkedHashMap<>())
+                        .merge(variable, 1, Integer::sum));
+            }
+            this.auth = mostCommon(authCounts);
+            variableCounts.forEach((key, counts) -> {
+                if (counts.size() == 1 && counts.values().iterator().next() == headers.size()) {
+                    variables.put(key, counts.keySet().iterator().next());
+                }
+            });
+        }
+
+        private static JsonNode mostCommon(Map<JsonNode, Integer> counts) {
+            JsonNode result = null;
+            int best = 0;
+            for (Map.Entry<JsonNode, Integer> entry : counts.entrySet()) {
+                if (entry.getValue() > best) {
+                    result = entry.getKey();
+                    best = entry.getValue();
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Head(Cursor cursor, ObjectNode item, ItemKey key) {
+    }
+
+    /**
+     * Streams the leaf items of one input, descending into folders.
+     */
+    private final class Cursor implements Closeable {
+        private final String service;
+        private final Path path;
+        private final int index;
+        private final JsonParser parser;
+        private final Map<Integer, ObjectNode> folderSettings;
+        // Settings of the enclosing folders, innermost first
+        private final Deque<ObjectNode> folders = new ArrayDeque<>();
+        private int nextFolder;
+        private boolean exhausted;
+        private ItemKey lastKey;
+
+        private Cursor(AggregationInput input, int index, Map<Integer, ObjectNode> folderSettings) throws IOException {
+            this.service = input.getService();
+            this.path = input.getPath();
+            this.index = index;
+            this.folderSettings = folderSettings;
+            JsonFactory factory = objectMapper.getFactory();
+            this.parser = factory.createParser(new BufferedInputStream(Files.newInputStream(path)));
+            try {
+                this.exhausted = !moveToItems();
+            } catch (IOException e) {
+                parser.close();
+                throw e;
+            }
+        }
+
+        /**
+         * Position the parser inside the top-level {@code item} array.
+         */
+        private boolean moveToItems() throws IOException {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("Collection is not a JSON object: " + path);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("item".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+            return false;
+        }
+
+        /**
+         * Next leaf item, or {@code null} once the input is exhausted.
+         */
+        private ObjectNode next() throws IOException {
+            while (!exhausted) {
+                JsonToken token = parser.nextToken();
+                if (token == JsonToken.START_OBJECT) {
+                    ObjectNode item = readItem();
+                    if (item != null) {
+                        return applyFolderSettings(item);
+                    }
+                } else if (token == JsonToken.END_ARRAY && !folders.isEmpty()) {
+                    // End of a folder's items: skip the folder's remaining fields
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                    folders.pop();
+                } else if (token == JsonToken.END_ARRAY || token == null) {
+                    exhausted = true;
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Read an item object, or return {@code null} after entering it if it is a folder.
+         */
+        private ObjectNode readItem() throws IOException {
+            ObjectNode item = objectMapper.createObjectNode();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if ("item".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                    enterFolder();
+                    return null;
+                }
+                item.set(fieldName, objectMapper.readTree(parser));
+            }
+            return item;
+        }
+
+        private void enterFolder() {
+            ObjectNode settings = folderSettings.getOrDefault(nextFolder++, EMPTY_SETTINGS);
+            if (settings.hasNonNull("variable")) {
+                logger.warn("Dropping the variables of folder '{}' in {}: folders are flattened into service '{}'",
+                        settings.path("name").asText(), path, service);
+            }
+            folders.push(settings);
+        }
+
+        /**
+         * Give a leaf item the auth and scripts it inherited from its folders.
+         */
+        private ObjectNode applyFolderSettings(ObjectNode item) {
+            if (!item.hasNonNull("auth")) {
+                folders.stream()
+                        .filter(settings -> settings.hasNonNull("auth"))
+                        .findFirst()
+                        .ifPresent(settings -> item.set("auth", settings.get("auth")));
+            }
+
+            ArrayNode events = objectMapper.createArrayNode();
+            folders.descendingIterator().forEachRemaining(settings -> {
+                if (settings.path("event").isArray()) {
+                    events.addAll((ArrayNode) settings.get("event"));
+                }
+            });
+            if (!events.isEmpty()) {
+                if (item.path("event").isArray()) {
+                    events.addAll((ArrayNode) item.get("event"));
+                }
+                item.set("event", events);
+            }
+            return item;
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+}
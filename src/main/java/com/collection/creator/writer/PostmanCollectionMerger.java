@@ -0,0 +1,440 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.model.Item;
+import com.collection.creator.model.PostmanRequest;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Merges a freshly generated Postman collection into an existing, hand-edited one.
+ *
+ * <p>The existing file is stream-parsed and rewritten item by item, so only one leaf item is held
+ * as a tree at any time and memory does not grow with the size of the file. Items are matched by
+ * HTTP method plus URL path (origin, query string and path variable names ignored). For a matched item only the
+ * generated fields are replaced: {@code request.method}, {@code request.url},
+ * {@code request.body} and the generated headers. A v2.1 URL object is updated in place: its
+ * origin and path follow the generated URL, while the user's path variables and query entries,
+ * with their descriptions and disabled flags, are kept. Everything else - names, folders, tests,
+ * pre-request scripts, saved examples, extra headers and unmatched items - is kept. The generated
+ * SLA test is recognised by its event id and replaced in place, or appended after the user's
+ * events, so a changed SLA never touches hand-written scripts. Generated items without a match
+ * are appended to the top-level {@code item} array.
+ *
+ * <p>The result is written to a temporary file next to the target and moved into place, so a
+ * failed merge never leaves a truncated collection behind.
+ */
+public class PostmanCollectionMerger {
+
+    private static final Pattern PATH_VARIABLE = Pattern.compile("/(?::[^/]+|\\{[^/]+})");
+    private static final Pattern URL_ORIGIN = Pattern.compile("^(?:[a-zA-Z][a-zA-Z0-9+.-]*://[^/]*|\\{\\{[^}]+}})");
+
+    private final ObjectMapper objectMapper;
+
+    public PostmanCollectionMerger(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Merge the generated collection into the existing file at {@code outputPath}.
+     */
+    public void merge(Path outputPath, PostmanRequest generated) throws IOException {
+        Map<String, Item> pending = new LinkedHashMap<>();
+        for (Item item : generated.getItem()) {
+            pending.putIfAbsent(matchKey(item.getRequest().getMethod(), item.getRequest().getUrl()), item);
+        }
+
+        Path directory = outputPath.toAbsolutePath().getParent();
+        Path tempPath = Files.createTempFile(directory, outputPath.getFileName().toString(), ".tmp");
+        try {
+            JsonFactory factory = objectMapper.getFactory();
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(outputPath));
+                 OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempPath));
+                 JsonParser parser = factory.createParser(in);
+                 JsonGenerator generator = factory.createGenerator(out)) {
+                generator.useDefaultPrettyPrinter();
+                mergeCollection(parser, generator, pending, outputPath);
+            }
+            moveIntoPlace(tempPath, outputPath);
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+    }
+
+    /**
+     * Copy the top-level collection object, merging its {@code item} array.
+     */
+    private void mergeCollection(JsonParser parser, JsonGenerator generator, Map<String, Item> pending,
+                                 Path outputPath) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new IOException("Existing collection is not a JSON object: " + outputPath);
+        }
+
+        generator.writeStartObject();
+        boolean itemsWritten = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            generator.writeFieldName(fieldName);
+            if ("item".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                generator.writeStartArray();
+                mergeItems(parser, generator, pending);
+                writePending(generator, pending);
+                generator.writeEndArray();
+                itemsWritten = true;
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+        if (!itemsWritten) {
+            generator.writeArrayFieldStart("item");
+            writePending(generator, pending);
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Merge the elements of an {@code item} array; the parser is positioned on its start.
+     */
+    private void mergeItems(JsonParser parser, JsonGenerator generator, Map<String, Item> pending)
+            throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.START_OBJECT) {
+                mergeItem(parser, generator, pending);
+            } else {
+                generator.copyCurrentStructure(parser);
+            }
+        }
+    }
+
+    /**
+     * Merge a single item object. Fields are buffered until the item turns out to be a folder
+     * (it has an {@code item} array), after which the rest is streamed straight through.
+     */
+    private void mergeItem(JsonParser parser, JsonGenerator generator, Map<String, Item> pending)
+            throws IOException {
+        ObjectNode buffered = objectMapper.createObjectNode();
+        boolean folder = false;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            JsonToken token = parser.nextToken();
+            if ("item".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                if (!folder) {
+                    generator.writeStartObject();
+                    writeFields(generator, buffered);
+                    folder = true;
+                }
+                generator.writeArrayFieldStart(fieldName);
+                mergeItems(parser, generator, pending);
+                generator.writeEndArray();
+            } else if (folder) {
+                generator.writeFieldName(fieldName);
+                generator.copyCurrentStructure(parser);
+            } else {
+                buffered.set(fieldName, objectMapper.readTree(parser));
+            }
+        }
+
+        if (folder) {
+            generator.writeEndObject();
+        } else {
+            generator.writeTree(mergeLeaf(buffered, pending));
+        }
+    }
+
+    /**
+     * Update the generated fields of a leaf item if it matches a generated item.
+     */
+    private ObjectNode mergeLeaf(ObjectNode item, Map<String, Item> pending) {
+        JsonNode request = item.get("request");
+        if (request == null) {
+            return item;
+        }
+
+        if (request.isTextual()) {
+            // Short form: the request is just a URL, sent as GET
+            Item match = pending.remove(matchKey("GET", request.asText()));
+            if (match != null) {
+                item.set("request", objectMapper.valueToTree(match.getRequest()));
+                mergeEvents(item, match);
+            }
+            return item;
+        }
+        if (!request.isObject()) {
+            return item;
+        }
+
+        ObjectNode existingRequest = (ObjectNode) request;
+        String method = existingRequest.path("method").asText("GET");
+        Item match = pending.remove(matchKey(method, urlOf(existingRequest.get("url"))));
+        if (match == null) {
+            return item;
+        }
+
+        ObjectNode generatedRequest = objectMapper.valueToTree(match.getRequest());
+        existingRequest.set("method", generatedRequest.get("method"));
+        existingRequest.set("url", mergeUrl(existingRequest.get("url"), match.getRequest().getUrl()));
+        existingRequest.set("header", mergeHeaders(existingRequest.get("header"), generatedRequest.get("header")));
+        JsonNode body = generatedRequest.get("body");
+        if (body != null && !body.isNull()) {
+            existingRequest.set("body", body);
+        }
+        mergeEvents(item, match);
+        return item;
+    }
+
+    /**
+     * Merge the generated URL string into the existing URL. A plain string is replaced; a v2.1 URL
+     * object gets the generated origin and path, and its query entries are merged by key.
+     */
+    private JsonNode mergeUrl(JsonNode existingUrl, String generatedUrl) {
+        if (existingUrl == null || !existingUrl.isObject()) {
+            return TextNode.valueOf(generatedUrl);
+        }
+        ObjectNode url = (ObjectNode) existingUrl;
+
+        String withoutQuery = StringUtils.substringBefore(generatedUrl, "?");
+        Matcher originMatcher = URL_ORIGIN.matcher(withoutQuery);
+        String origin = originMatcher.find() ? originMatcher.group() : "";
+        setOrigin(url, origin);
+
+        // Keep ":name" segments where the generated path has a {name} template at the same position
+        String[] segments = StringUtils.split(withoutQuery.substring(origin.length()), '/');
+        JsonNode existingPath = url.path("path");
+        boolean samePathShape = existingPath.isArray() && existingPath.size() == segments.length;
+        ArrayNode path = objectMapper.createArrayNode();
+        for (int i = 0; i < segments.length; i++) {
+            String existingSegment = samePathShape ? existingPath.get(i).asText() : "";
+            boolean keepVariable = existingSegment.startsWith(":") && segments[i].startsWith("{");
+            path.add(keepVariable ? existingSegment : segments[i]);
+        }
+        url.set("path", path);
+
+        ArrayNode query = mergeQuery(url.get("query"), StringUtils.substringAfter(generatedUrl, "?"));
+        if (!query.isEmpty() || url.has("query")) {
+            url.set("query", query);
+        }
+
+        StringBuilder raw = new StringBuilder(origin);
+        for (JsonNode segment : path) {
+            raw.append('/').append(segment.asText());
+        }
+        String separator = "?";
+        for (JsonNode entry : query) {
+            if (!entry.path("disabled").asBoolean(false)) {
+                raw.append(separator).append(entry.path("key").asText()).append('=').append(entry.path("value").asText());
+                separator = "&";
+            }
+        }
+        url.put("raw", raw.toString());
+        return url;
+    }
+
+    /**
+     * Set {@code protocol}, {@code host} and {@code port} of a URL object from an origin such as
+     * {@code http://localhost:8080} or {@code {{baseUrl}}}.
+     */
+    private void setOrigin(ObjectNode url, String origin) {
+        String host = origin;
+        if (host.contains("://")) {
+            url.put("protocol", StringUtils.substringBefore(host, "://"));
+            host = StringUtils.substringAfter(host, "://");
+        } else {
+            url.remove("protocol");
+        }
+
+        String port = StringUtils.substringAfterLast(host, ":");
+        if (StringUtils.isNumeric(port)) {
+            url.put("port", port);
+            host = StringUtils.substringBeforeLast(host, ":");
+        } else {
+            url.remove("port");
+        }
+
+        if (host.isEmpty()) {
+            url.remove("host");
+        } else {
+            ArrayNode hostNode = objectMapper.createArrayNode();
+            for (String part : host.startsWith("{{") ? new String[] {host} : StringUtils.split(host, '.')) {
+                hostNode.add(part);
+            }
+            url.set("host", hostNode);
+        }
+    }
+
+    /**
+     * Replace the values of generated query parameters, keep the user's entries and append missing
+     * generated ones.
+     */
+    private ArrayNode mergeQuery(JsonNode existingQuery, String generatedQuery) {
+        Map<String, String> generatedByKey = new LinkedHashMap<>();
+        for (String parameter : StringUtils.split(generatedQuery, '&')) {
+            generatedByKey.put(StringUtils.substringBefore(parameter, "="), StringUtils.substringAfter(parameter, "="));
+        }
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        if (existingQuery != null && existingQuery.isArray()) {
+            for (JsonNode entry : existingQuery) {
+                String value = generatedByKey.remove(entry.path("key").asText());
+                if (value != null && entry.isObject()) {
+                    ((ObjectNode) entry).put("value", value);
+                }
+                merged.add(entry);
+            }
+        }
+        generatedByKey.forEach((key, value) -> merged.addObject().put("key", key).put("value", value));
+        return merged;
+    }
+
+    /**
+     * Replace the generated SLA test of an item with the new one, keeping the user's events and
+     * their order. The SLA test is dropped when the endpoint no longer has one.
+     */
+    private void mergeEvents(ObjectNode item, Item match) {
+        JsonNode existingEvents = item.get("event");
+        JsonNode generatedEvents = match.getEvent() != null ? objectMapper.valueToTree(match.getEvent()) : null;
+        if (existingEvents == null || existingEvents.isNull()) {
+            if (generatedEvents != null) {
+                item.set("event", generatedEvents);
+            }
+            return;
+        }
+        if (!existingEvents.isArray()) {
+            return;
+        }
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        boolean replaced = false;
+        for (JsonNode event : existingEvents) {
+            if (!PostmanCollectionWriter.SLA_TEST_ID.equals(event.path("id").asText())) {
+                merged.add(event);
+            } else if (!replaced) {
+                if (generatedEvents != null) {
+                    merged.addAll((ArrayNode) generatedEvents);
+                }
+                replaced = true;
+            }
+        }
+        if (!replaced && generatedEvents != null) {
+            merged.addAll((ArrayNode) generatedEvents);
+        }
+        if (merged.isEmpty()) {
+            item.remove("event");
+        } else {
+            item.set("event", merged);
+        }
+    }
+
+    /**
+     * Replace the values of generated headers, keep user headers and append missing generated ones.
+     */
+    private JsonNode mergeHeaders(JsonNode existingHeaders, JsonNode generatedHeaders) {
+        if (existingHeaders == null || !existingHeaders.isArray()) {
+            return generatedHeaders;
+        }
+        if (generatedHeaders == null || !generatedHeaders.isArray()) {
+            return existingHeaders;
+        }
+
+        Map<String, JsonNode> generatedByKey = new LinkedHashMap<>();
+        for (JsonNode header : generatedHeaders) {
+            generatedByKey.put(header.path("key").asText(), header);
+        }
+
+        ArrayNode merged = objectMapper.createArrayNode();
+        Set<String> seen = new HashSet<>();
+        for (JsonNode header : existingHeaders) {
+            String key = header.path("key").asText();
+            JsonNode generatedHeader = generatedByKey.get(key);
+            if (generatedHeader != null && header.isObject()) {
+                ObjectNode updated = ((ObjectNode) header).deepCopy();
+                updated.set("value", generatedHeader.get("value"));
+                merged.add(updated);
+                seen.add(key);
+            } else {
+                merged.add(header);
+            }
+        }
+        generatedByKey.forEach((key, header) -> {
+            if (!seen.contains(key)) {
+                merged.add(header);
+            }
+        });
+        return merged;
+    }
+
+    private void writePending(JsonGenerator generator, Map<String, Item> pending) throws IOException {
+        for (Item item : pending.values()) {
+            generator.writeTree(objectMapper.valueToTree(item));
+        }
+        pending.clear();
+    }
+
+    private static void writeFields(JsonGenerator generator, ObjectNode fields) throws IOException {
+        for (Map.Entry<String, JsonNode> field : fields.properties()) {
+            generator.writeFieldName(field.getKey());
+            generator.writeTree(field.getValue());
+        }
+    }
+
+    /**
+     * Get the URL of a request, which is either a string or a v2.1 URL object with a {@code raw} field.
+     */
+    static String urlOf(JsonNode url) {
+        if (url == null) {
+            return "";
+        }
+        return url.isObject() ? url.path("raw").asText() : url.asText();
+    }
+
+    /**
+     * Key used to match items: upper-case method plus the URL path without origin and query string.
+     * Path variables match whatever their name and form, so {@code /orders/:id} matches
+     * {@code /orders/{orderId}}.
+     */
+    static String matchKey(String method, String url) {
+        return StringUtils.upperCase(method) + " " + PATH_VARIABLE.matcher(requestPath(url)).replaceAll("/{}");
+    }
+
+    /**
+     * The URL path without origin and query string.
+     */
+    static String requestPath(String url) {
+        String path = StringUtils.substringBefore(StringUtils.defaultString(url), "?");
+        return URL_ORIGIN.matcher(path).replaceFirst("");
+    }
+
+    static void moveIntoPlace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.config.PostmanCollectionProperties;
+import com.collection.creator.endpoint.ApiDefinition;
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.model.Body;
+import com.collection.creator.model.Event;
+import com.collection.creator.model.Header;
+import com.collection.creator.model.Info;
+import com.collection.creator.model.Item;
+import com.collection.creator.model.PostmanRequest;
+import com.collection.creator.model.Request;
+import com.collection.creator.model.Response;
+import com.collection.creator.model.Script;
+import com.collection.creator.sampling.RequestSample;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the definition as a Postman collection (v2.0.0 or v2.1.0).
+ *
+ * <p>The v2.0 writer uses the configured {@code collection.schema} and the configured file name
+ * unchanged; the v2.1 writer always declares the v2.1.0 schema and writes {@code <name>.v21.json}.
+ *
+ * <p>When {@code output.merge} is enabled and the file already exists, the generated collection is
+ * merged into it by {@link PostmanCollectionMerger} instead of replacing it.
+ */
+public class PostmanCollectionWriter extends AbstractCollectionWriter {
+
+    public static final String FORMAT_V2_0 = "postman-v2.0";
+    public static final String FORMAT_V2_1 = "postman-v2.1";
+
+    static final String SCHEMA_V2_1 = "https://schema.getpostman.com/json/collection/v2.1.0/collection.json";
+    // Event id marking the generated SLA test, so that a merge can tell it from user scripts
+    static final String SLA_TEST_ID = "generated-sla-test";
+
+    private final PostmanCollectionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final PostmanCollectionMerger merger;
+    private final boolean v21;
+
+    public PostmanCollectionWriter(PostmanCollectionProperties properties, ObjectMapper objectMapper, boolean v21) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.merger = new PostmanCollectionMerger(objectMapper);
+        this.v21 = v21;
+    }
+
+    @Override
+    public String getFormat() {
+        return v21 ? FORMAT_V2_1 : FORMAT_V2_0;
+    }
+
+    @Override
+    public String resolveFileName(String fileName) {
+        return v21 ? replaceExtension(fileName, ".v21.json") : fileName;
+    }
+
+    @Override
+    public void write(ApiDefinition api, Path outputPath) throws IOException {
+        PostmanRequest postmanRequest = toPostmanRequest(api);
+        if (properties.getOutput().isMerge() && Files.isRegularFile(outputPath)) {
+            merger.merge(outputPath, postmanRequest);
+            return;
+        }
+        writeFile(outputPath, objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(postmanRequest));
+    }
+
+    /**
+     * Build the complete Postman collection structure.
+     */
+    public PostmanRequest toPostmanRequest(ApiDefinition api) throws JsonProcessingException {
+        PostmanRequest postmanRequest = new PostmanRequest();
+        postmanRequest.setInfo(createCollectionInfo(api));
+
+        // One interned header list is shared by every request and example
+        List<Header> headers = createHeaders(api.getHeaders());
+        List<Item> itemList = new ArrayList<>(api.getEndpoints().size());
+        for (EndpointDefinition endpoint : api.getEndpoints()) {
+            itemList.add(createItem(api, endpoint, headers));
+        }
+        postmanRequest.setItem(itemList);
+
+        return postmanRequest;
+    }
+
+    /**
+     * Create collection metadata.
+     */
+    private Info createCollectionInfo(ApiDefinition api) {
+        Info info = new Info();
+        info.setName(api.getName());
+        info.setSchema(v21 ? SCHEMA_V2_1 : properties.getCollection().getSchema());
+        return info;
+    }
+
+    /**
+     * Create a single collection item for an endpoint.
+     */
+    private Item createItem(ApiDefinition api, EndpointDefinition endpoint, List<Header> headers)
+            throws JsonProcessingException {
+        Request request = Request.builder()
+                .method(endpoint.getMethod())
+                .header(headers)
+                .body(endpoint.hasBody() ? createBody(endpoint.getBodyDefaults()) : null)
+                .url(buildUrl(api.getBaseUrl(), endpoint))
+                .build();
+
+        List<Object> responses = null;
+        if (!endpoint.getExamples().isEmpty()) {
+            responses = new ArrayList<>(endpoint.getExamples().size());
+            for (RequestSample sample : endpoint.getExamples()) {
+                responses.add(createExample(api, endpoint, sample, headers));
+            }
+        }
+        return Item.builder()
+                .name(endpoint.getName())
+                .request(request)
+                .response(responses)
+                .event(endpoint.getMaxResponseTime() != null ? List.of(createSlaTest(endpoint)) : null)
+                .build();
+    }
+
+    /**
+     * Create a test event asserting the endpoint's expected status and response-time SLA. It carries
+     * {@link #SLA_TEST_ID}, so a merge can replace it without touching hand-written scripts.
+     */
+    private Event createSlaTest(EndpointDefinition endpoint) {
+        int status = endpoint.getExpectedStatus() != null ? endpoint.getExpectedStatus() : HttpStatus.OK.value();
+        long maxResponseTime = endpoint.getMaxResponseTime();
+        return Event.of(SLA_TEST_ID, "test", Script.javascript(List.of(
+                "pm.test(\"Status code is " + status + "\", function () {",
+                "    pm.response.to.have.status(" + status + ");",
+                "});",
+                "pm.test(\"Response time is below " + maxResponseTime + " ms\", function () {",
+                "    pm.expect(pm.response.responseTime).to.be.below(" + maxResponseTime + ");",
+                "});")));
+    }
+
+    /**
+     * Create a saved example from a captured request sample.
+     */
+    private Response createExample(ApiDefinition api, EndpointDefinition endpoint, RequestSample sample,
+                                   List<Header> headers) {
+        Request request = Request.builder()
+                .method(endpoint.getMethod())
+                .header(headers)
+                .body(sample.getBody() != null ? Body.json(sample.getBody()) : null)
+                .url(buildSampleUrl(api.getBaseUrl(), endpoint, sample))
+                .build();
+
+        HttpStatus status = HttpStatus.resolve(sample.getStatus());
+
+        return Response.builder()
+                .name("Sample " + sample.getCapturedAt())
+                .originalRequest(request)
+                .code(sample.getStatus())
+                .status(status != null ? status.getReasonPhrase() : "")
+                .body("")
+                .build();
+    }
+
+    /**
+     * Create request headers.
+     */
+    private List<Header> createHeaders(Map<String, String> headerValues) {
+        List<Header> headers = new ArrayList<>();
+
+        for (Map.Entry<String, String> entry : headerValues.entrySet()) {
+            headers.add(Header.of(entry.getKey(), entry.getValue(), properties.getAuthorization().getHeaderType()));
+        }
+
+        return headers;
+    }
+
+    /**
+     * Create request body.
+     */
+    private Body createBody(Map<String, Object> requestBodyDefaults) throws JsonProcessingException {
+        return Body.json(objectMapper.writeValueAsString(requestBodyDefaults));
+    }
+}
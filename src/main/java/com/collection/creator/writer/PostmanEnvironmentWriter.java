@@ -0,0 +1,43 @@
+package com.collection.creator.writer;
+
+import com.collection.creator.model.EnvironmentValue;
+import com.collection.creator.model.PostmanEnvironment;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a Postman environment file holding the variables of one environment.
+ */
+public class PostmanEnvironmentWriter {
+
+    private final ObjectMapper objectMapper;
+
+    public PostmanEnvironmentWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Write the environment file, replacing any existing file.
+     */
+    public void write(String name, Map<String, String> variables, Path outputPath) throws IOException {
+        List<EnvironmentValue> values = new ArrayList<>(variables.size());
+        variables.forEach((key, value) -> {
+            EnvironmentValue environmentValue = new EnvironmentValue();
+            environmentValue.setKey(key);
+            environmentValue.setValue(value);
+            values.add(environmentValue);
+        });
+
+        PostmanEnvironment environment = new PostmanEnvironment();
+        environment.setName(name);
+        environment.setValues(values);
+
+        AbstractCollectionWriter.writeFile(outputPath,
+                objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(environment));
+    }
+}
@@ -3,11 +3,13 @@ package com.collection.creator;
 import com.collection.creator.autoconfigure.PostmanCollectionAutoConfiguration;
 import com.collection.creator.config.PostmanCollectionProperties;
 import com.collection.creator.service.PostmanCollectionService;
+import com.collection.creator.writer.HarWriter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -50,11 +52,22 @@ class CreatorApplicationTests {
 		assertThat(properties.getBaseUrl()).isEmpty();
 	}
 
+	@Test
+	void writerBeansDoNotClashWithApplicationBeans() {
+		assertThat(applicationContext.getBean("harWriter")).isEqualTo("application bean");
+		assertThat(applicationContext.getBean("postmanHarWriter")).isInstanceOf(HarWriter.class);
+		assertThat(applicationContext.containsBean("postmanOpenApiJsonWriter")).isTrue();
+	}
+
 	/**
-	 * Minimal Spring Boot application for testing.
+	 * Minimal Spring Boot application for testing, with a bean named like a generic writer.
 	 */
 	@SpringBootApplication
 	static class TestApplication {
-		// Minimal test application
+
+		@Bean
+		String harWriter() {
+			return "application bean";
+		}
 	}
 }
@@ -0,0 +1,104 @@
+package com.collection.creator.catalog;
+
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.model.Item;
+import com.collection.creator.model.Request;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for endpoint catalog queries.
+ */
+class EndpointCatalogTests {
+
+	private final EndpointCatalog catalog = catalog(
+			endpoint("POST", "/api/orders", "OrderController"),
+			endpoint("GET", "/api/orders/{id}", "OrderController"),
+			endpoint("GET", "/api/orders", "OrderController"),
+			endpoint("DELETE", "/api/orders/{id}", "OrderController"),
+			endpoint("POST", "/api/orders/{id}/items", "OrderItemController"),
+			endpoint("GET", "/api/users", "UserController"),
+			endpoint("GET", "/", "HomeController"));
+
+	@Test
+	void pathWildcardAndMethodAreCombined() {
+		EndpointPage page = catalog.query(EndpointQuery.builder().path("/api/orders/**").method("post").build());
+
+		assertThat(names(page)).containsExactly("POST /api/orders", "POST /api/orders/{id}/items");
+		assertThat(page.getTotal()).isEqualTo(2);
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	void literalSegmentMatchesPathVariable() {
+		assertThat(names(catalog.query(EndpointQuery.builder().path("/api/orders/42").build())))
+				.containsExactly("DELETE /api/orders/{id}", "GET /api/orders/{id}");
+		assertThat(names(catalog.query(EndpointQuery.builder().path("/api/*").build())))
+				.containsExactly("GET /api/orders", "POST /api/orders", "GET /api/users");
+	}
+
+	@Test
+	void controllerQueryIsPagedInPathOrder() {
+		EndpointQuery.Builder query = EndpointQuery.builder().controller("OrderController").size(3);
+
+		EndpointPage first = catalog.query(query.page(0).build());
+		EndpointPage second = catalog.query(query.page(1).build());
+
+		assertThat(names(first)).containsExactly("GET /api/orders", "POST /api/orders", "DELETE /api/orders/{id}");
+		assertThat(first.hasNext()).isTrue();
+		assertThat(names(second)).containsExactly("GET /api/orders/{id}");
+		assertThat(second.getTotal()).isEqualTo(4);
+		assertThat(second.hasNext()).isFalse();
+	}
+
+	@Test
+	void fullyQualifiedControllerNameSeparatesSameNamedControllers() {
+		EndpointCatalog versioned = catalog(
+				endpoint("GET", "/v1/orders", "com.example.v1.OrderController"),
+				endpoint("GET", "/v2/orders", "com.example.v2.OrderController"));
+
+		assertThat(names(versioned.query(EndpointQuery.builder().controller("OrderController").build())))
+				.containsExactly("GET /v1/orders", "GET /v2/orders");
+		assertThat(names(versioned.query(EndpointQuery.builder().controller("com.example.v2.OrderController").build())))
+				.containsExactly("GET /v2/orders");
+	}
+
+	@Test
+	void unmatchedCriteriaReturnEmptyPage() {
+		assertThat(catalog.query(EndpointQuery.builder().method("PATCH").build()).getItems()).isEmpty();
+		assertThat(catalog.query(EndpointQuery.builder().controller("Missing").build()).getTotal()).isZero();
+		assertThat(names(catalog.query(EndpointQuery.builder().path("/").build()))).containsExactly("GET /");
+		assertThat(catalog.query(EndpointQuery.builder().page(5).build()).getItems()).isEmpty();
+		assertThatThrownBy(() -> catalog.query(EndpointQuery.builder().path("/api/**/items").build()))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static List<String> names(EndpointPage page) {
+		return page.getItems().stream().map(Item::getName).toList();
+	}
+
+	private static EndpointCatalog catalog(EndpointDefinition... endpoints) {
+		List<Item> items = new ArrayList<>();
+		for (EndpointDefinition endpoint : endpoints) {
+			items.add(Item.builder()
+					.name(endpoint.getMethod() + " " + endpoint.getPath())
+					.request(Request.builder().method(endpoint.getMethod()).url(endpoint.getPath()).build())
+					.build());
+		}
+		return EndpointCatalog.build(List.of(endpoints), items);
+	}
+
+	private static EndpointDefinition endpoint(String method, String path, String controllerClass) {
+		EndpointDefinition endpoint = new EndpointDefinition();
+		endpoint.setMethod(method);
+		endpoint.setPath(path);
+		endpoint.setController(controllerClass.substring(controllerClass.lastIndexOf('.') + 1));
+		endpoint.setControllerClass(controllerClass);
+		return endpoint;
+	}
+}
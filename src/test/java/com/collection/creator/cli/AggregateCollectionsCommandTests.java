@@ -0,0 +1,45 @@
+package com.collection.creator.cli;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the aggregation command line.
+ */
+class AggregateCollectionsCommandTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void inputsFromArgumentsAreAggregated() throws Exception {
+		Path orders = tempDir.resolve("orders.json");
+		Files.writeString(orders, "{\"info\":{\"name\":\"Orders\"},\"item\":[{\"name\":\"List orders\","
+				+ "\"request\":{\"method\":\"GET\",\"url\":\"{{baseUrl}}/api/orders\"}}]}");
+		Path output = tempDir.resolve("platform.json");
+
+		int exitCode = AggregateCollectionsCommand.run(new String[] {"--output", output.toString(), "shop=" + orders},
+				System.err);
+
+		assertThat(exitCode).isZero();
+		JsonNode collection = objectMapper.readTree(output.toFile());
+		assertThat(collection.path("info").path("name").asText()).isEqualTo(AggregateCollectionsCommand.DEFAULT_NAME);
+		assertThat(collection.path("item").get(0).path("name").asText()).isEqualTo("shop");
+		assertThat(collection.path("item").get(0).path("item").get(0).path("name").asText()).isEqualTo("List orders");
+	}
+
+	@Test
+	void missingOutputIsAUsageError() {
+		assertThat(AggregateCollectionsCommand.run(new String[] {"orders.json"}, System.err)).isEqualTo(2);
+		assertThat(AggregateCollectionsCommand.run(new String[] {"orders.json", "--output"}, System.err)).isEqualTo(2);
+	}
+}
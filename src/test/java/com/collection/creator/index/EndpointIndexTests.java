@@ -0,0 +1,91 @@
+package com.collection.creator.index;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Test class for the endpoint index written by {@link EndpointIndexProcessor} for the test sources.
+ */
+class EndpointIndexTests {
+
+	private final EndpointIndex index = EndpointIndex.load(getClass().getClassLoader(), new ObjectMapper());
+
+	@Test
+	void requestParamsAreIndexedWithTheirDefaults() throws Exception {
+		IndexedEndpoint search = index.find(CatalogController.class.getMethod("search", String.class, int.class));
+
+		assertThat(search).isNotNull();
+		assertThat(search.getPaths()).containsExactly("/api/catalog/search");
+		assertThat(search.getMethods()).containsExactly("GET");
+		assertThat(search.getQueryParameters()).containsExactly(entry("q", "{q}"), entry("limit", "20"));
+		assertThat(search.getBodyDefaults()).isEmpty();
+	}
+
+	@Test
+	void bodyShapeIncludesInheritedFields() throws Exception {
+		IndexedEndpoint update = index.find(CatalogController.class.getMethod("update", CatalogItem.class));
+
+		assertThat(update).isNotNull();
+		assertThat(update.getPaths()).containsExactly("/api/catalog/items/{id}");
+		assertThat(update.getMethods()).containsExactly("PUT");
+		assertThat(update.getBodyDefaults()).containsExactly(entry("title", ""), entry("price", 0.0),
+				entry("tags", List.of()), entry("id", 0), entry("version", null));
+	}
+
+	@Test
+	void platformBodyTypesAreLeftToReflection() throws Exception {
+		assertThat(index.find(CatalogController.class.getMethod("patch", Map.class))).isNull();
+	}
+
+	@Test
+	void entryNoLongerMatchingTheLiveMappingIsStale() throws Exception {
+		IndexedEndpoint search = index.find(CatalogController.class.getMethod("search", String.class, int.class));
+
+		assertThat(search.matches(List.of("/api/catalog/search"), List.of("GET"))).isTrue();
+		assertThat(search.matches(List.of("/v2/catalog/search"), List.of("GET"))).isFalse();
+		assertThat(search.matches(List.of("/api/catalog/search"), List.of("GET", "HEAD"))).isFalse();
+	}
+
+	@RestController
+	@RequestMapping("/api/catalog")
+	static class CatalogController {
+
+		@GetMapping("search")
+		public String search(@RequestParam String q, @RequestParam(value = "limit", defaultValue = "20") int pageSize) {
+			return "";
+		}
+
+		@PutMapping("/items/{id}")
+		public String update(@RequestBody CatalogItem item) {
+			return "";
+		}
+
+		@RequestMapping(path = "/items", method = org.springframework.web.bind.annotation.RequestMethod.PATCH)
+		public String patch(@RequestBody Map<String, Object> changes) {
+			return "";
+		}
+	}
+
+	static class BaseItem {
+		private int id;
+		private Long version;
+	}
+
+	static class CatalogItem extends BaseItem {
+		private String title;
+		private double price;
+		private List<String> tags;
+	}
+}
@@ -0,0 +1,74 @@
+package com.collection.creator.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for the immutable collection model.
+ */
+class CollectionModelTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void equalBodiesAndHeaderSetsAreShared() {
+		Request first = request("{\"product\":\"\"}", new ArrayList<>(List.of(Header.of("Authorization", "{{token}}", "text"))));
+		Request second = request(new String("{\"product\":\"\"}"), List.of(Header.of("Authorization", "{{token}}", "text")));
+
+		assertThat(first.getBody()).isSameAs(second.getBody());
+		assertThat(first.getBody().getOptions()).isSameAs(Options.JSON);
+		assertThat(first.getHeader()).isSameAs(second.getHeader());
+		assertThat(first.getHeader().get(0)).isSameAs(second.getHeader().get(0));
+		assertThatThrownBy(() -> first.getHeader().add(Header.of("X-Extra", "1", "text")))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void equalEventScriptsAreShared() {
+		Script first = Script.javascript(new ArrayList<>(List.of("pm.test(\"ok\", function () {});")));
+		Script second = Script.of("text/javascript", List.of("pm.test(\"ok\", function () {});"));
+
+		assertThat(first).isSameAs(second);
+		assertThat(Event.test(first)).isSameAs(Event.of("test", second));
+	}
+
+	@Test
+	void toBuilderSharesUnchangedParts() {
+		Item item = Item.builder().name("Create order").request(request("{}", List.of())).build();
+
+		Item renamed = item.toBuilder().name("Create order (copy)").build();
+
+		assertThat(renamed.getName()).isEqualTo("Create order (copy)");
+		assertThat(renamed.getRequest()).isSameAs(item.getRequest());
+		assertThat(item.getName()).isEqualTo("Create order");
+	}
+
+	@Test
+	void modelRoundTripsThroughJackson() throws Exception {
+		Request request = request("{\"quantity\":1}", List.of(Header.of("Authorization", "{{token}}", "text")));
+		Response example = Response.builder().name("Sample").originalRequest(request).status("OK").code(200).body("").build();
+		Item item = Item.builder().name("Create order").request(request).response(List.of(example)).build();
+
+		String json = objectMapper.writeValueAsString(item);
+		Item read = objectMapper.readValue(json, Item.class);
+
+		assertThat(objectMapper.writeValueAsString(read)).isEqualTo(json);
+		assertThat(read.getRequest().getBody()).isSameAs(request.getBody());
+		assertThat(read.getRequest().getHeader()).isSameAs(request.getHeader());
+	}
+
+	private static Request request(String body, List<Header> headers) {
+		return Request.builder()
+				.method("POST")
+				.header(headers)
+				.body(Body.json(body))
+				.url("{{baseUrl}}/api/orders")
+				.build();
+	}
+}
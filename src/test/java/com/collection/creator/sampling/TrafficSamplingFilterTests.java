@@ -0,0 +1,114 @@
+package com.collection.creator.sampling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for request sampling and redaction.
+ */
+class TrafficSamplingFilterTests {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final SampleRedactor redactor = new SampleRedactor(objectMapper, List.of("password", "token"));
+
+	@Test
+	void sampledRequestIsRedactedAndStored() throws Exception {
+		RequestSampleStore store = new RequestSampleStore(3);
+		TrafficSamplingFilter filter = new TrafficSamplingFilter(store, redactor, 1.0, 1024);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+		request.setContentType("application/json");
+		request.setQueryString("page=1&token=abc");
+		request.setContent("{\"name\":\"jane\",\"credentials\":{\"Password\":\"s3cret\"}}".getBytes(StandardCharsets.UTF_8));
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new ReadingServlet()));
+
+		List<RequestSample> samples = store.getSamples("post", "/api/users");
+		assertThat(samples).hasSize(1);
+		assertThat(samples.get(0).getBody()).isEqualTo("{\"name\":\"jane\",\"credentials\":{\"Password\":\"***\"}}");
+		assertThat(samples.get(0).getQueryString()).isEqualTo("page=1&token=***");
+		assertThat(samples.get(0).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void requestsAreNotSampledWhenRateIsZero() throws Exception {
+		RequestSampleStore store = new RequestSampleStore(3);
+		TrafficSamplingFilter filter = new TrafficSamplingFilter(store, redactor, 0.0, 1024);
+
+		filter.doFilter(new MockHttpServletRequest("GET", "/api/users"), new MockHttpServletResponse(),
+				new MockFilterChain(new ReadingServlet()));
+
+		assertThat(store.getSamples("GET", "/api/users")).isEmpty();
+	}
+
+	@Test
+	void truncatedBodyIsDropped() throws Exception {
+		RequestSampleStore store = new RequestSampleStore(3);
+		TrafficSamplingFilter filter = new TrafficSamplingFilter(store, redactor, 1.0, 10);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+		request.setContentType("application/json");
+		request.setContent("{\"password\":\"s3cret\"}".getBytes(StandardCharsets.UTF_8));
+
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new ReadingServlet()));
+
+		assertThat(store.getSamples("POST", "/api/users")).singleElement()
+				.satisfies(sample -> assertThat(sample.getBody()).isNull());
+	}
+
+	@Test
+	void onlyJsonContentTypesKeepTheirBody() throws Exception {
+		RequestSampleStore store = new RequestSampleStore(3);
+		TrafficSamplingFilter filter = new TrafficSamplingFilter(store, redactor, 1.0, 1024);
+
+		for (String contentType : List.of("Application/Problem+JSON; charset=UTF-8", "text/plain; note=json", "not a type")) {
+			MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/users");
+			request.setContentType(contentType);
+			request.setContent("{\"name\":\"jane\"}".getBytes(StandardCharsets.UTF_8));
+			filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new ReadingServlet()));
+		}
+
+		assertThat(store.getSamples("POST", "/api/users"))
+				.extracting(RequestSample::getBody)
+				.containsExactlyInAnyOrder("{\"name\":\"jane\"}", null, null);
+	}
+
+	@Test
+	void bufferKeepsNewestSamples() {
+		RequestSampleStore store = new RequestSampleStore(2);
+		for (int i = 1; i <= 3; i++) {
+			store.record(new RequestSample("GET", "/api/users", "page=" + i, null, 200, Instant.now()));
+		}
+
+		assertThat(store.getSamples("GET", "/api/users"))
+				.extracting(RequestSample::getQueryString)
+				.containsExactly("page=3", "page=2");
+	}
+
+	/**
+	 * Reads the body like a message converter would and sets the matched pattern.
+	 */
+	private static class ReadingServlet extends HttpServlet {
+		@Override
+		protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+			request.getInputStream().readAllBytes();
+			request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/users");
+		}
+	}
+}
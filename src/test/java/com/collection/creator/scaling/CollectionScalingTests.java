@@ -0,0 +1,198 @@
+package com.collection.creator.scaling;
+
+import com.collection.creator.catalog.EndpointCatalog;
+import com.collection.creator.catalog.EndpointQuery;
+import com.collection.creator.config.PostmanCollectionProperties;
+import com.collection.creator.service.PostmanCollectionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.GenericApplicationContext;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Scaling test suite: runs the full {@code generateCollection} against synthetic applications of
+ * increasing size and fails when the per-endpoint cost grows faster than near-linear. It also
+ * checks that endpoint catalog queries over a large application stay within a latency budget.
+ *
+ * <p>Tagged {@code scaling} and excluded from the default build; run it with
+ * {@code mvn test -Pscaling}. Sizes and bounds can be overridden with system properties:
+ * <pre>
+ * -Dscaling.sizes=1000,10000,50000
+ * -Dscaling.max-time-growth=3.0
+ * -Dscaling.max-allocation-growth=2.0
+ * -Dscaling.max-heap-growth=4.0
+ * -Dscaling.catalog-size=10000
+ * -Dscaling.max-query-micros=1000
+ * </pre>
+ * A growth bound is the largest allowed ratio between the per-endpoint cost at a given size and
+ * at the smallest size; linear behaviour gives 1.0 while a quadratic regression gives the ratio
+ * of the sizes (50 for 50k vs 1k). Measurements are written to
+ * {@code target/scaling-report.csv}.
+ */
+@Tag("scaling")
+class CollectionScalingTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(CollectionScalingTests.class);
+
+	private static final List<Integer> SIZES = Arrays.stream(System.getProperty("scaling.sizes", "1000,10000,50000")
+			.split(",")).map(String::trim).map(Integer::valueOf).sorted().toList();
+	private static final double MAX_TIME_GROWTH = Double.parseDouble(System.getProperty("scaling.max-time-growth", "3.0"));
+	private static final double MAX_ALLOCATION_GROWTH = Double.parseDouble(System.getProperty("scaling.max-allocation-growth", "2.0"));
+	private static final double MAX_HEAP_GROWTH = Double.parseDouble(System.getProperty("scaling.max-heap-growth", "4.0"));
+	private static final int CATALOG_SIZE = Integer.getInteger("scaling.catalog-size", 10_000);
+	private static final long MAX_QUERY_MICROS = Long.getLong("scaling.max-query-micros", 1_000);
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void generationScalesNearLinearly() throws Exception {
+		// Warm up the JIT so the smallest size is not dominated by interpretation
+		measure(SIZES.get(0));
+
+		List<Measurement> measurements = new ArrayList<>();
+		for (int size : SIZES) {
+			measurements.add(measure(size));
+		}
+		writeReport(measurements);
+
+		Measurement baseline = measurements.get(0);
+		for (Measurement measurement : measurements.subList(1, measurements.size())) {
+			assertThat(measurement.nanosPerEndpoint() / baseline.nanosPerEndpoint())
+					.as("Wall time growth per endpoint at %d vs %d endpoints", measurement.endpoints, baseline.endpoints)
+					.isLessThanOrEqualTo(MAX_TIME_GROWTH);
+			assertThat(measurement.allocatedBytesPerEndpoint() / baseline.allocatedBytesPerEndpoint())
+					.as("Allocation growth per endpoint at %d vs %d endpoints", measurement.endpoints, baseline.endpoints)
+					.isLessThanOrEqualTo(MAX_ALLOCATION_GROWTH);
+			assertThat(measurement.heapBytesPerEndpoint() / baseline.heapBytesPerEndpoint())
+					.as("Peak heap growth per endpoint at %d vs %d endpoints", measurement.endpoints, baseline.endpoints)
+					.isLessThanOrEqualTo(MAX_HEAP_GROWTH);
+		}
+	}
+
+	@Test
+	void catalogQueriesStayUnderBudget() throws Exception {
+		try (GenericApplicationContext context = SyntheticApplication.create(CATALOG_SIZE)) {
+			PostmanCollectionService service = new PostmanCollectionService(context, new PostmanCollectionProperties(),
+					objectMapper);
+			EndpointCatalog catalog = service.buildEndpointCatalog("http://localhost:8080");
+			assertThat(catalog.size()).isEqualTo(CATALOG_SIZE);
+
+			List<EndpointQuery> queries = List.of(
+					EndpointQuery.builder().path("/api/resource42/**").method("POST").build(),
+					EndpointQuery.builder().controller("Controller7").build(),
+					EndpointQuery.builder().path("/api/resource5/123/operation3").build(),
+					EndpointQuery.builder().path("/api/*/{id}/operation1").size(100).page(3).build(),
+					EndpointQuery.builder().method("GET").page(50).size(50).build());
+
+			for (EndpointQuery query : queries) {
+				long[] nanos = new long[2_000];
+				for (int i = 0; i < nanos.length; i++) {
+					long start = System.nanoTime();
+					catalog.query(query);
+					nanos[i] = System.nanoTime() - start;
+				}
+				// Ignore the first half as warm-up
+				long[] measured = Arrays.copyOfRange(nanos, nanos.length / 2, nanos.length);
+				Arrays.sort(measured);
+				long medianMicros = measured[measured.length / 2] / 1_000;
+				long p99Micros = measured[measured.length * 99 / 100] / 1_000;
+				logger.info("Catalog query path={} method={} controller={}: median {} us, p99 {} us",
+						query.getPath(), query.getMethod(), query.getController(), medianMicros, p99Micros);
+				assertThat(medianMicros)
+						.as("Median query time for path=%s method=%s controller=%s", query.getPath(), query.getMethod(),
+								query.getController())
+						.isLessThan(MAX_QUERY_MICROS);
+			}
+		}
+	}
+
+	/**
+	 * Generate a collection for a synthetic application of the given size. Only the generation
+	 * itself runs on this thread, so its allocations are what the thread counter reports.
+	 */
+	private Measurement measure(int endpoints) throws Exception {
+		try (GenericApplicationContext context = SyntheticApplication.create(endpoints)) {
+			PostmanCollectionProperties properties = new PostmanCollectionProperties();
+			properties.getOutput().setDirectory(tempDir.toString());
+			properties.getOutput().setFilename("collection-" + endpoints + ".json");
+			PostmanCollectionService service = new PostmanCollectionService(context, properties, objectMapper);
+
+			com.sun.management.ThreadMXBean threadBean =
+					(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+					.filter(pool -> pool.getType() == MemoryType.HEAP)
+					.toList();
+
+			System.gc();
+			long heapBefore = heapPools.stream().mapToLong(pool -> pool.getUsage().getUsed()).sum();
+			heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+			long allocatedBefore = threadBean.getCurrentThreadAllocatedBytes();
+			long start = System.nanoTime();
+
+			String outputPath = service.generateCollection("http://localhost:8080");
+
+			long nanos = System.nanoTime() - start;
+			long allocatedBytes = threadBean.getCurrentThreadAllocatedBytes() - allocatedBefore;
+			long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+			assertThat(objectMapper.readTree(new File(outputPath)).path("item")).hasSize(endpoints);
+			Files.delete(Path.of(outputPath));
+
+			Measurement measurement = new Measurement(endpoints, nanos, allocatedBytes, Math.max(peakHeap - heapBefore, 1));
+			logger.info("Scaling {}", measurement);
+			return measurement;
+		}
+	}
+
+	private static void writeReport(List<Measurement> measurements) throws Exception {
+		List<String> lines = new ArrayList<>();
+		lines.add("endpoints,wall_time_ms,allocated_bytes,peak_heap_bytes");
+		for (Measurement measurement : measurements) {
+			lines.add(measurement.endpoints + "," + measurement.nanos / 1_000_000 + ","
+					+ measurement.allocatedBytes + "," + measurement.peakHeapBytes);
+		}
+		Path report = Paths.get("target", "scaling-report.csv");
+		Files.createDirectories(report.getParent());
+		Files.write(report, lines);
+	}
+
+	private record Measurement(int endpoints, long nanos, long allocatedBytes, long peakHeapBytes) {
+
+		double nanosPerEndpoint() {
+			return (double) nanos / endpoints;
+		}
+
+		double allocatedBytesPerEndpoint() {
+			return (double) allocatedBytes / endpoints;
+		}
+
+		double heapBytesPerEndpoint() {
+			return (double) peakHeapBytes / endpoints;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%d endpoints: %d ms, %d MB allocated, %d MB peak heap", endpoints,
+					nanos / 1_000_000, allocatedBytes / (1024 * 1024), peakHeapBytes / (1024 * 1024));
+		}
+	}
+}
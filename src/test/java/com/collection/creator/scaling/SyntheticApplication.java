@@ -0,0 +1,110 @@
+package com.collection.creator.scaling;
+
+import net.bytebuddy.ByteBuddy;
+import net.bytebuddy.description.annotation.AnnotationDescription;
+import net.bytebuddy.description.modifier.Visibility;
+import net.bytebuddy.description.type.TypeDescription;
+import net.bytebuddy.dynamic.DynamicType;
+import net.bytebuddy.dynamic.loading.ByteArrayClassLoader;
+import net.bytebuddy.implementation.FixedValue;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Builds a synthetic Spring MVC context with generated controllers and DTOs.
+ *
+ * <p>Controllers and DTOs are generated with ByteBuddy and loaded by a single class loader. Each
+ * controller has {@value #METHODS_PER_CONTROLLER} handler methods taking its DTO as
+ * {@code @RequestBody} plus a {@code @RequestParam}; the methods are registered directly with a
+ * {@link RequestMappingHandlerMapping} so building the context stays cheap compared to generation.
+ */
+final class SyntheticApplication {
+
+	static final int METHODS_PER_CONTROLLER = 10;
+
+	private static final String PACKAGE = "com.collection.creator.scaling.synthetic";
+	private static final List<Class<?>> DTO_FIELD_TYPES = List.of(
+			String.class, int.class, long.class, boolean.class, Integer.class, Double.class, List.class, Map.class);
+	private static final RequestMethod[] HTTP_METHODS = {
+			RequestMethod.GET, RequestMethod.POST, RequestMethod.PUT, RequestMethod.DELETE, RequestMethod.PATCH};
+
+	private SyntheticApplication() {
+	}
+
+	/**
+	 * Create a refreshed context exposing {@code requestMappingHandlerMapping} with the given
+	 * number of endpoints.
+	 */
+	static GenericApplicationContext create(int endpoints) throws ReflectiveOperationException {
+		int controllers = (endpoints + METHODS_PER_CONTROLLER - 1) / METHODS_PER_CONTROLLER;
+
+		Map<String, byte[]> types = new HashMap<>();
+		for (int c = 0; c < controllers; c++) {
+			DynamicType.Unloaded<?> dto = createDto(c);
+			types.put(dto.getTypeDescription().getName(), dto.getBytes());
+			DynamicType.Unloaded<?> controller = createController(c, dto.getTypeDescription(),
+					Math.min(METHODS_PER_CONTROLLER, endpoints - c * METHODS_PER_CONTROLLER));
+			types.put(controller.getTypeDescription().getName(), controller.getBytes());
+		}
+		ClassLoader classLoader = new ByteArrayClassLoader(SyntheticApplication.class.getClassLoader(), types);
+
+		RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+		RequestMappingInfo.BuilderConfiguration config = handlerMapping.getBuilderConfiguration();
+		for (int c = 0; c < controllers; c++) {
+			Class<?> controllerType = classLoader.loadClass(PACKAGE + ".Controller" + c);
+			Object controller = controllerType.getDeclaredConstructor().newInstance();
+			for (Method method : controllerType.getDeclaredMethods()) {
+				int index = Integer.parseInt(method.getName().substring("endpoint".length()));
+				RequestMappingInfo info = RequestMappingInfo
+						.paths("/api/resource" + c + "/{id}/operation" + index)
+						.methods(HTTP_METHODS[index % HTTP_METHODS.length])
+						.options(config)
+						.build();
+				handlerMapping.registerMapping(info, controller, method);
+			}
+		}
+
+		GenericApplicationContext context = new GenericApplicationContext();
+		context.registerBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class, () -> handlerMapping);
+		context.refresh();
+		return context;
+	}
+
+	private static DynamicType.Unloaded<?> createDto(int index) {
+		DynamicType.Builder<Object> builder = new ByteBuddy()
+				.subclass(Object.class)
+				.name(PACKAGE + ".Dto" + index);
+		for (int f = 0; f < DTO_FIELD_TYPES.size(); f++) {
+			builder = builder.defineField("field" + f, DTO_FIELD_TYPES.get(f), Visibility.PRIVATE);
+		}
+		return builder.make();
+	}
+
+	private static DynamicType.Unloaded<?> createController(int index, TypeDescription dtoType, int methods) {
+		AnnotationDescription requestBody = AnnotationDescription.Builder.ofType(RequestBody.class).build();
+		AnnotationDescription requestParam = AnnotationDescription.Builder.ofType(RequestParam.class)
+				.define("name", "page")
+				.define("defaultValue", "1")
+				.build();
+
+		DynamicType.Builder<Object> builder = new ByteBuddy()
+				.subclass(Object.class)
+				.name(PACKAGE + ".Controller" + index);
+		for (int m = 0; m < methods; m++) {
+			builder = builder.defineMethod("endpoint" + m, String.class, Visibility.PUBLIC)
+					.withParameter(dtoType, "body").annotateParameter(requestBody)
+					.withParameter(int.class, "page").annotateParameter(requestParam)
+					.intercept(FixedValue.value("ok"));
+		}
+		return builder.make();
+	}
+}
@@ -0,0 +1,620 @@
+package com.collection.creator.service;
+
+import com.collection.creator.catalog.EndpointCatalog;
+import com.collection.creator.catalog.EndpointPage;
+import com.collection.creator.catalog.EndpointQuery;
+import com.collection.creator.config.PostmanCollectionProperties;
+import com.collection.creator.endpoint.ApiDefinition;
+import com.collection.creator.endpoint.EndpointDefinition;
+import com.collection.creator.index.EndpointIndex;
+import com.collection.creator.sampling.RequestSample;
+import com.collection.creator.sampling.RequestSampleStore;
+import com.collection.creator.sla.ResponseTimeSla;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for collection generation against a small set of endpoints.
+ */
+@SpringBootTest(classes = PostmanCollectionServiceTests.TestApplication.class)
+class PostmanCollectionServiceTests {
+
+	@Autowired
+	private PostmanCollectionService postmanCollectionService;
+
+	@Autowired
+	private PostmanCollectionProperties properties;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private SlowSampleStore requestSampleStore;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@TempDir
+	Path tempDir;
+
+	@BeforeEach
+	void setUp() {
+		properties.getOutput().setDirectory(tempDir.toString());
+		properties.getOutput().setFormats(List.of("postman-v2.0"));
+		properties.getOutput().setMerge(false);
+		properties.getEnvironments().clear();
+		properties.setEnvironmentFiles(false);
+		requestSampleStore.clear();
+		requestSampleStore.slowPattern = null;
+		properties.getGeneration().setTimeout(null);
+		properties.getGeneration().setEndpointTimeout(null);
+		properties.getIndex().setEnabled(true);
+		properties.getSla().setEnabled(false);
+		properties.getSla().setResponseTime(Duration.ofSeconds(1));
+		properties.getSla().getRules().clear();
+	}
+
+	@Test
+	void generateCollectionWritesPostmanCollection() throws Exception {
+		String outputPath = postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode collection = objectMapper.readTree(new File(outputPath));
+		assertThat(collection.path("info").path("schema").asText()).contains("v2.0.0");
+		assertThat(collection.path("item")).hasSize(3);
+
+		JsonNode create = findItem(collection, "/api/orders_POST");
+		assertThat(create.path("request").path("url").asText()).isEqualTo("http://localhost:8080/api/orders");
+		assertThat(create.path("request").path("body").path("raw").asText()).contains("\"quantity\":0");
+		assertThat(create.path("request").path("header").get(0).path("key").asText()).isEqualTo("Authorization");
+
+		JsonNode list = findItem(collection, "/api/orders_GET");
+		assertThat(list.path("request").path("url").asText()).isEqualTo("http://localhost:8080/api/orders?size=10");
+		assertThat(list.has("event")).isFalse();
+	}
+
+	@Test
+	void generateOutputsWritesEveryFormatFromOnePass() throws Exception {
+		Map<String, String> outputs = postmanCollectionService.generateOutputs("http://localhost:8080",
+				List.of("postman-v2.0", "postman-v2.1", "openapi-yaml", "openapi-json", "har"));
+
+		assertThat(outputs).containsOnlyKeys("postman-v2.0", "postman-v2.1", "openapi-yaml", "openapi-json", "har");
+		assertThat(Path.of(outputs.get("postman-v2.0")).getFileName()).hasToString("collection.json");
+		assertThat(Path.of(outputs.get("openapi-yaml")).getFileName()).hasToString("collection.openapi.yaml");
+
+		JsonNode v21 = objectMapper.readTree(new File(outputs.get("postman-v2.1")));
+		assertThat(v21.path("info").path("schema").asText()).contains("v2.1.0");
+
+		JsonNode openApi = objectMapper.readTree(new File(outputs.get("openapi-json")));
+		assertThat(openApi.path("paths").path("/api/orders/{id}").path("get").path("parameters").get(0)
+				.path("in").asText()).isEqualTo("path");
+		assertThat(openApi.path("paths").path("/api/orders").path("post").path("requestBody")
+				.path("content").path("application/json").path("schema").path("properties")
+				.path("quantity").path("type").asText()).isEqualTo("integer");
+		assertThat(Files.readString(Path.of(outputs.get("openapi-yaml")))).contains("openapi: 3.0.3");
+
+		JsonNode har = objectMapper.readTree(new File(outputs.get("har")));
+		assertThat(har.path("log").path("entries")).hasSize(3);
+	}
+
+	@Test
+	void mergeKeepsUserOwnedFieldsOfExistingCollection() throws Exception {
+		Path existing = tempDir.resolve("collection.json");
+		Files.writeString(existing, """
+				{
+				  "info": {"name": "Edited by QA", "_postman_id": "abc"},
+				  "item": [
+				    {
+				      "name": "Orders",
+				      "item": [
+				        {
+				          "name": "Create order",
+				          "event": [{"listen": "test", "script": {"exec": ["pm.test('ok')"]}}],
+				          "request": {
+				            "method": "POST",
+				            "url": "http://old-host/api/orders?stale=1",
+				            "header": [
+				              {"key": "Authorization", "value": "old"},
+				              {"key": "X-Trace", "value": "qa"}
+				            ]
+				          },
+				          "response": [{"name": "Saved example"}]
+				        }
+				      ]
+				    },
+				    {"name": "Hand-made", "request": {"method": "GET", "url": "http://old-host/health"}}
+				  ]
+				}
+				""");
+		properties.getOutput().setMerge(true);
+
+		postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode collection = objectMapper.readTree(existing.toFile());
+		assertThat(collection.path("info").path("name").asText()).isEqualTo("Edited by QA");
+		assertThat(collection.path("item")).hasSize(4);
+
+		JsonNode create = collection.path("item").get(0).path("item").get(0);
+		assertThat(create.path("name").asText()).isEqualTo("Create order");
+		assertThat(create.path("event").get(0).path("listen").asText()).isEqualTo("test");
+		assertThat(create.path("response").get(0).path("name").asText()).isEqualTo("Saved example");
+		assertThat(create.path("request").path("url").asText()).isEqualTo("http://localhost:8080/api/orders");
+		assertThat(create.path("request").path("body").path("raw").asText()).contains("quantity");
+		assertThat(create.path("request").path("header")).hasSize(2);
+		assertThat(create.path("request").path("header").get(0).path("value").asText()).isEqualTo("{{logintoken}}");
+		assertThat(create.path("request").path("header").get(1).path("key").asText()).isEqualTo("X-Trace");
+
+		assertThat(collection.path("item").get(1).path("name").asText()).isEqualTo("Hand-made");
+		assertThat(findItem(collection, "/api/orders_GET")).isNotNull();
+		assertThat(findItem(collection, "/api/orders/{id}_GET")).isNotNull();
+	}
+
+	@Test
+	void mergeUpdatesObjectUrlsInPlace() throws Exception {
+		Path existing = tempDir.resolve("collection.json");
+		Files.writeString(existing, """
+				{
+				  "info": {"name": "Edited by QA"},
+				  "item": [
+				    {
+				      "name": "List orders",
+				      "request": {
+				        "method": "GET",
+				        "url": {
+				          "raw": "https://old-host.example.com/api/orders?size=5",
+				          "protocol": "https",
+				          "host": ["old-host", "example", "com"],
+				          "path": ["api", "orders"],
+				          "query": [
+				            {"key": "size", "value": "5", "description": "Page size"},
+				            {"key": "debug", "value": "true", "disabled": true}
+				          ]
+				        }
+				      }
+				    },
+				    {
+				      "name": "Get order",
+				      "request": {
+				        "method": "GET",
+				        "url": {
+				          "raw": "{{host}}/api/orders/:id",
+				          "host": ["{{host}}"],
+				          "path": ["api", "orders", ":id"],
+				          "variable": [{"key": "id", "value": "42", "description": "Order id"}]
+				        }
+				      }
+				    }
+				  ]
+				}
+				""");
+		properties.getOutput().setMerge(true);
+
+		postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode collection = objectMapper.readTree(existing.toFile());
+		assertThat(collection.path("item")).hasSize(3);
+
+		JsonNode list = collection.path("item").get(0).path("request").path("url");
+		assertThat(list.path("raw").asText()).isEqualTo("http://localhost:8080/api/orders?size=10");
+		assertThat(list.path("protocol").asText()).isEqualTo("http");
+		assertThat(list.path("host").toString()).isEqualTo("[\"localhost\"]");
+		assertThat(list.path("port").asText()).isEqualTo("8080");
+		assertThat(list.path("query")).hasSize(2);
+		assertThat(list.path("query").get(0).path("value").asText()).isEqualTo("10");
+		assertThat(list.path("query").get(0).path("description").asText()).isEqualTo("Page size");
+		assertThat(list.path("query").get(1).path("disabled").asBoolean()).isTrue();
+
+		JsonNode get = collection.path("item").get(1).path("request").path("url");
+		assertThat(get.path("raw").asText()).isEqualTo("http://localhost:8080/api/orders/:id");
+		assertThat(get.path("path").toString()).isEqualTo("[\"api\",\"orders\",\":id\"]");
+		assertThat(get.path("variable").get(0).path("value").asText()).isEqualTo("42");
+		assertThat(get.path("variable").get(0).path("description").asText()).isEqualTo("Order id");
+	}
+
+	@Test
+	void generateEnvironmentCollectionsBakesInEnvironmentValues() throws Exception {
+		properties.getEnvironments().put("dev", environment("http://localhost:8080", null));
+		properties.getEnvironments().put("prod", environment("https://api.example.com", "Bearer {{prodToken}}"));
+
+		Map<String, String> outputs = postmanCollectionService.generateEnvironmentCollections();
+
+		assertThat(outputs).containsOnlyKeys("dev:postman-v2.0", "prod:postman-v2.0");
+		assertThat(Path.of(outputs.get("prod:postman-v2.0")).getFileName()).hasToString("collection.prod.json");
+
+		JsonNode prod = objectMapper.readTree(new File(outputs.get("prod:postman-v2.0")));
+		JsonNode create = findItem(prod, "/api/orders_POST");
+		assertThat(create.path("request").path("url").asText()).isEqualTo("https://api.example.com/api/orders");
+		assertThat(create.path("request").path("header").get(0).path("value").asText()).isEqualTo("Bearer {{prodToken}}");
+
+		JsonNode dev = objectMapper.readTree(new File(outputs.get("dev:postman-v2.0")));
+		assertThat(findItem(dev, "/api/orders_POST").path("request").path("header").get(0).path("value").asText())
+				.isEqualTo("{{logintoken}}");
+	}
+
+	@Test
+	void generateEnvironmentCollectionsWritesEnvironmentFiles() throws Exception {
+		properties.getEnvironments().put("staging", environment("https://staging.example.com", "Bearer abc"));
+		properties.setEnvironmentFiles(true);
+
+		Map<String, String> outputs = postmanCollectionService.generateEnvironmentCollections();
+
+		assertThat(outputs).containsOnlyKeys("postman-v2.0", "staging:postman-environment");
+		JsonNode collection = objectMapper.readTree(new File(outputs.get("postman-v2.0")));
+		assertThat(findItem(collection, "/api/orders_POST").path("request").path("url").asText())
+				.isEqualTo("{{baseUrl}}/api/orders");
+
+		JsonNode environment = objectMapper.readTree(new File(outputs.get("staging:postman-environment")));
+		assertThat(environment.path("name").asText()).isEqualTo("staging");
+		assertThat(environment.path("values").get(0).path("value").asText()).isEqualTo("https://staging.example.com");
+		assertThat(environment.path("values").get(1).path("value").asText()).isEqualTo("Bearer abc");
+	}
+
+	@Test
+	void environmentFilesUseTheSharedHeaderNameOrRejectConflicts() throws Exception {
+		PostmanCollectionProperties.Environment staging = environment("https://staging.example.com", "abc");
+		staging.setHeaderName("X-Api-Key");
+		PostmanCollectionProperties.Environment prod = environment("https://api.example.com", "def");
+		prod.setHeaderName("X-Api-Key");
+		properties.getEnvironments().put("staging", staging);
+		properties.getEnvironments().put("prod", prod);
+		properties.setEnvironmentFiles(true);
+
+		Map<String, String> outputs = postmanCollectionService.generateEnvironmentCollections();
+
+		JsonNode collection = objectMapper.readTree(new File(outputs.get("postman-v2.0")));
+		assertThat(findItem(collection, "/api/orders_GET").path("request").path("header").get(0).path("key").asText())
+				.isEqualTo("X-Api-Key");
+
+		prod.setHeaderName(null);
+		assertThatThrownBy(() -> postmanCollectionService.generateEnvironmentCollections())
+				.isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("X-Api-Key")
+				.hasMessageContaining("Authorization");
+	}
+
+	@Test
+	void capturedSamplesReplaceDefaultsAndBecomeExamples() throws Exception {
+		requestSampleStore.record(new RequestSample("POST", "/api/orders", null,
+				"{\"product\":\"book\",\"quantity\":1}", 201, Instant.parse("2026-01-01T00:00:00Z")));
+		requestSampleStore.record(new RequestSample("POST", "/api/orders", "dryRun=true",
+				"{\"product\":\"pen\",\"quantity\":3}", 201, Instant.parse("2026-01-02T00:00:00Z")));
+
+		String outputPath = postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode create = findItem(objectMapper.readTree(new File(outputPath)), "/api/orders_POST");
+		assertThat(create.path("request").path("body").path("raw").asText()).isEqualTo("{\"product\":\"pen\",\"quantity\":3}");
+		assertThat(create.path("request").path("url").asText()).isEqualTo("http://localhost:8080/api/orders?dryRun=true");
+		assertThat(create.path("response")).hasSize(1);
+		assertThat(create.path("response").get(0).path("code").asInt()).isEqualTo(201);
+		assertThat(create.path("response").get(0).path("originalRequest").path("body").path("raw").asText())
+				.contains("book");
+	}
+
+	@Test
+	void sampledQueryValuesAreEncodedAgain() throws Exception {
+		requestSampleStore.record(new RequestSample("GET", "/api/orders", "q=a%26b&note=two%20words&size={size}",
+				null, 200, Instant.parse("2026-01-01T00:00:00Z")));
+
+		Map<String, String> outputs = postmanCollectionService.generateOutputs("http://localhost:8080",
+				List.of("postman-v2.0", "har"));
+
+		JsonNode list = findItem(objectMapper.readTree(new File(outputs.get("postman-v2.0"))), "/api/orders_GET");
+		assertThat(list.path("request").path("url").asText())
+				.isEqualTo("http://localhost:8080/api/orders?q=a%26b&note=two%20words&size={size}");
+		JsonNode har = objectMapper.readTree(new File(outputs.get("har")));
+		assertThat(har.path("log").path("entries").toString()).contains("{\"name\":\"q\",\"value\":\"a&b\"}");
+	}
+
+	@Test
+	void generateWithinBudgetKeepsAllFinishedEndpoints() throws Exception {
+		properties.getGeneration().setTimeout(Duration.ofSeconds(30));
+		properties.getGeneration().setEndpointTimeout(Duration.ofSeconds(10));
+
+		GenerationResult result = postmanCollectionService.generate("http://localhost:8080");
+
+		assertThat(result.isPartial()).isFalse();
+		JsonNode collection = objectMapper.readTree(new File(result.getOutputs().get("postman-v2.0")));
+		assertThat(collection.path("item")).hasSize(3);
+		assertThat(findItem(collection, "/api/orders_POST").path("request").path("body").path("raw").asText())
+				.contains("quantity");
+	}
+
+	@Test
+	void slowEndpointBecomesPlaceholderAndIsReported() throws Exception {
+		properties.getGeneration().setTimeout(Duration.ofSeconds(30));
+		properties.getGeneration().setEndpointTimeout(Duration.ofMillis(200));
+		requestSampleStore.slowPattern = "/api/orders/{id}";
+		double timeoutsBefore = meterRegistry.counter("postman.collection.endpoint.timeouts").count();
+
+		GenerationResult result = postmanCollectionService.generate("http://localhost:8080");
+
+		assertThat(result.isPartial()).isTrue();
+		assertThat(result.getTimedOutEndpoints()).containsExactly("/api/orders/{id}_GET");
+		JsonNode collection = objectMapper.readTree(new File(result.getOutputs().get("postman-v2.0")));
+		assertThat(collection.path("item")).hasSize(3);
+		assertThat(findItem(collection, "/api/orders/{id}_GET (introspection timed out)").path("request")
+				.path("url").asText()).isEqualTo("http://localhost:8080/api/orders/{id}");
+		assertThat(findItem(collection, "/api/orders_POST").path("request").path("body").path("raw").asText())
+				.contains("quantity");
+		assertThat(meterRegistry.counter("postman.collection.endpoint.timeouts").count())
+				.isEqualTo(timeoutsBefore + 1);
+	}
+
+	@Test
+	void environmentGenerationReportsTimedOutEndpoints() throws Exception {
+		properties.getEnvironments().put("dev", environment("http://localhost:8080", null));
+		properties.getEnvironments().put("prod", environment("https://api.example.com", null));
+		properties.getGeneration().setEndpointTimeout(Duration.ofMillis(200));
+		requestSampleStore.slowPattern = "/api/orders/{id}";
+
+		GenerationResult result = postmanCollectionService.generateEnvironments();
+
+		assertThat(result.isPartial()).isTrue();
+		assertThat(result.getTimedOutEndpoints()).containsExactly("/api/orders/{id}_GET");
+		assertThat(result.getOutputs()).containsOnlyKeys("dev:postman-v2.0", "prod:postman-v2.0");
+		JsonNode prod = objectMapper.readTree(new File(result.getOutputs().get("prod:postman-v2.0")));
+		assertThat(findItem(prod, "/api/orders/{id}_GET (introspection timed out)")).isNotNull();
+	}
+
+	@Test
+	void overrunningIntrospectionIsCancelled() throws Exception {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			AtomicLongArray startTimes = new AtomicLongArray(1);
+			Future<List<EndpointDefinition>> future = executor.submit(() -> {
+				startTimes.set(0, System.nanoTime());
+				Thread.sleep(10_000);
+				return List.of();
+			});
+
+			long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+			List<EndpointDefinition> result = PostmanCollectionService.awaitWithinBudget(future, startTimes, 0,
+					deadline, Duration.ofMillis(50).toNanos());
+
+			assertThat(result).isNull();
+			assertThat(future.isCancelled()).isTrue();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void finishedIntrospectionIsKeptAfterDeadline() throws Exception {
+		EndpointDefinition endpoint = new EndpointDefinition();
+		Future<List<EndpointDefinition>> future = CompletableFuture.completedFuture(List.of(endpoint));
+
+		List<EndpointDefinition> result = PostmanCollectionService.awaitWithinBudget(future,
+				new AtomicLongArray(new long[] {1}), 0, System.nanoTime() - 1, 1);
+
+		assertThat(result).containsExactly(endpoint);
+	}
+
+	@Test
+	void compileTimeIndexMatchesReflection() throws Exception {
+		EndpointIndex index = EndpointIndex.load(getClass().getClassLoader(), objectMapper);
+		assertThat(index.find(TestApplication.OrderController.class.getMethod("listOrders", int.class))).isNotNull();
+
+		ApiDefinition indexed = postmanCollectionService.buildApiDefinition("http://localhost:8080");
+		properties.getIndex().setEnabled(false);
+		ApiDefinition reflected = postmanCollectionService.buildApiDefinition("http://localhost:8080");
+
+		assertThat(indexed.getEndpoints())
+				.usingRecursiveFieldByFieldElementComparator()
+				.containsExactlyInAnyOrderElementsOf(reflected.getEndpoints());
+	}
+
+	@Test
+	void endpointCatalogReturnsCollectionItems() throws Exception {
+		EndpointCatalog catalog = postmanCollectionService.buildEndpointCatalog("http://localhost:8080");
+
+		EndpointPage page = catalog.query(EndpointQuery.builder().path("/api/orders/**").method("POST").build());
+
+		assertThat(page.getTotal()).isEqualTo(1);
+		assertThat(page.getItems().get(0).getName()).isEqualTo("/api/orders_POST");
+		assertThat(page.getItems().get(0).getRequest().getBody().getRaw()).contains("quantity");
+		assertThat(catalog.query(EndpointQuery.builder().controller("OrderController").build()).getTotal()).isEqualTo(3);
+		assertThat(catalog.query(EndpointQuery.builder().controller(TestApplication.OrderController.class.getName())
+				.build()).getTotal()).isEqualTo(3);
+	}
+
+	@Test
+	void slaTestsUseAnnotationThenRuleThenDefault() throws Exception {
+		PostmanCollectionProperties.Sla.Rule rule = new PostmanCollectionProperties.Sla.Rule();
+		rule.setPattern("/api/orders/**");
+		rule.setMethod("GET");
+		rule.setResponseTime(Duration.ofMillis(750));
+		rule.setStatus(202);
+		properties.getSla().setEnabled(true);
+		properties.getSla().setResponseTime(Duration.ofMillis(500));
+		properties.getSla().getRules().add(rule);
+
+		JsonNode collection = objectMapper.readTree(new File(postmanCollectionService.generateCollection("")));
+
+		JsonNode annotated = findItem(collection, "/api/orders/{id}_GET").path("event").get(0);
+		assertThat(annotated.path("listen").asText()).isEqualTo("test");
+		assertThat(annotated.path("script").path("type").asText()).isEqualTo("text/javascript");
+		assertThat(annotated.path("script").path("exec").toString())
+				.contains("pm.response.to.have.status(202);")
+				.contains("pm.expect(pm.response.responseTime).to.be.below(250);");
+
+		assertThat(findItem(collection, "/api/orders_GET").path("event").toString())
+				.contains("pm.response.to.have.status(202);")
+				.contains("to.be.below(750);");
+		assertThat(findItem(collection, "/api/orders_POST").path("event").toString())
+				.contains("pm.response.to.have.status(201);")
+				.contains("to.be.below(500);");
+	}
+
+	@Test
+	void mergeReplacesTheSlaTestWhenTheSlaChanges() throws Exception {
+		properties.getSla().setEnabled(true);
+		properties.getSla().setResponseTime(Duration.ofMillis(500));
+		properties.getOutput().setMerge(true);
+		postmanCollectionService.generateCollection("http://localhost:8080");
+
+		properties.getSla().setResponseTime(Duration.ofMillis(900));
+		String outputPath = postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode events = findItem(objectMapper.readTree(new File(outputPath)), "/api/orders_POST").path("event");
+		assertThat(events).hasSize(1);
+		assertThat(events.get(0).path("id").asText()).isEqualTo("generated-sla-test");
+		assertThat(events.toString()).contains("to.be.below(900);").doesNotContain("to.be.below(500);");
+	}
+
+	@Test
+	void mergeKeepsUserEventsNextToTheSlaTest() throws Exception {
+		Path existing = tempDir.resolve("collection.json");
+		Files.writeString(existing, """
+				{
+				  "info": {"name": "Edited by QA"},
+				  "item": [
+				    {
+				      "name": "Create order",
+				      "event": [
+				        {"listen": "prerequest", "script": {"exec": ["pm.variables.set('sku', 'A1')"]}},
+				        {"listen": "test", "script": {"exec": ["pm.test('has id')"]}}
+				      ],
+				      "request": {"method": "POST", "url": "http://old-host/api/orders"}
+				    }
+				  ]
+				}
+				""");
+		properties.getSla().setEnabled(true);
+		properties.getSla().setResponseTime(Duration.ofMillis(500));
+		properties.getOutput().setMerge(true);
+		postmanCollectionService.generateCollection("http://localhost:8080");
+
+		properties.getSla().setResponseTime(Duration.ofMillis(900));
+		postmanCollectionService.generateCollection("http://localhost:8080");
+
+		JsonNode events = objectMapper.readTree(existing.toFile()).path("item").get(0).path("event");
+		assertThat(events).hasSize(3);
+		assertThat(events.get(0).path("script").path("exec").get(0).asText()).isEqualTo("pm.variables.set('sku', 'A1')");
+		assertThat(events.get(1).path("script").path("exec").get(0).asText()).isEqualTo("pm.test('has id')");
+		assertThat(events.get(2).path("id").asText()).isEqualTo("generated-sla-test");
+		assertThat(events.get(2).toString()).contains("to.be.below(900);");
+	}
+
+	@Test
+	void unknownFormatIsRejected() {
+		assertThatThrownBy(() -> postmanCollectionService.generateOutputs("", List.of("wsdl")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("wsdl");
+	}
+
+	private static PostmanCollectionProperties.Environment environment(String baseUrl, String headerValue) {
+		PostmanCollectionProperties.Environment environment = new PostmanCollectionProperties.Environment();
+		environment.setBaseUrl(baseUrl);
+		environment.setHeaderValue(headerValue);
+		return environment;
+	}
+
+	private static JsonNode findItem(JsonNode collection, String name) {
+		for (JsonNode item : collection.path("item")) {
+			if (name.equals(item.path("name").asText())) {
+				return item;
+			}
+		}
+		throw new AssertionError("No item named " + name);
+	}
+
+	/**
+	 * Minimal Spring Boot application with a few endpoints.
+	 */
+	@SpringBootApplication
+	static class TestApplication {
+
+		@Bean
+		SlowSampleStore requestSampleStore() {
+			return new SlowSampleStore();
+		}
+
+		@Bean
+		SimpleMeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@RestController
+		static class OrderController {
+
+			@GetMapping("/api/orders/{id}")
+			@ResponseTimeSla(250)
+			public String getOrder(@PathVariable String id) {
+				return id;
+			}
+
+			@GetMapping("/api/orders")
+			public String listOrders(@RequestParam(defaultValue = "10") int size) {
+				return "";
+			}
+
+			@PostMapping("/api/orders")
+			@ResponseStatus(HttpStatus.CREATED)
+			public String createOrder(@RequestBody OrderRequest request) {
+				return "";
+			}
+		}
+
+		static class OrderRequest {
+			private String product;
+			private int quantity;
+		}
+	}
+
+	/**
+	 * Sample store that makes introspecting the endpoint with {@code slowPattern} take far longer
+	 * than any test budget, until the introspection task is cancelled.
+	 */
+	static class SlowSampleStore extends RequestSampleStore {
+
+		volatile String slowPattern;
+
+		SlowSampleStore() {
+			super(5);
+		}
+
+		@Override
+		public List<RequestSample> getSamples(String method, String pattern) {
+			if (pattern.equals(slowPattern)) {
+				try {
+					Thread.sleep(10_000);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			return super.getSamples(method, pattern);
+		}
+	}
+}
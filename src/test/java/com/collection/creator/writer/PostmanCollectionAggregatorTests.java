@@ -0,0 +1,166 @@
+package com.collection.creator.writer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Test class for aggregating service collections.
+ */
+class PostmanCollectionAggregatorTests {
+
+	private static final String BEARER = "{\"type\":\"bearer\",\"bearer\":[{\"key\":\"token\",\"value\":\"{{token}}\"}]}";
+
+	private static final String API_KEY = "{\"type\":\"apikey\"}";
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final PostmanCollectionAggregator aggregator = new PostmanCollectionAggregator(objectMapper);
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void servicesAreMergedIntoSortedFoldersWithSharedSettingsDeduplicated() throws Exception {
+		Path orders = write("orders.json", BEARER, "{\"key\":\"baseUrl\",\"value\":\"http://gateway\"}",
+				"\"{{baseUrl}}/api/orders\"", "{\"method\":\"POST\",\"url\":\"{{baseUrl}}/api/orders\"}");
+		Path billing = write("billing.json", BEARER, "{\"key\":\"baseUrl\",\"value\":\"http://gateway\"}",
+				"{\"method\":\"GET\",\"url\":{\"raw\":\"http://gateway/api/invoices?page=1\"}}");
+		Path admin = write("admin.json", API_KEY, "{\"key\":\"baseUrl\",\"value\":\"http://admin\"}",
+				"{\"method\":\"DELETE\",\"url\":\"{{baseUrl}}/api/users/{id}\"}");
+		Path output = tempDir.resolve("out/platform.json");
+
+		aggregator.aggregate("Platform API", List.of(AggregationInput.of(orders), AggregationInput.of(billing),
+				AggregationInput.of(admin)), output);
+
+		JsonNode collection = objectMapper.readTree(output.toFile());
+		assertThat(collection.path("info").path("name").asText()).isEqualTo("Platform API");
+		assertThat(collection.path("auth")).isEqualTo(objectMapper.readTree(BEARER));
+		assertThat(collection.has("variable")).isFalse();
+
+		JsonNode folders = collection.path("item");
+		assertThat(folders).extracting(folder -> folder.path("name").asText())
+				.containsExactly("admin", "billing", "orders");
+		assertThat(folders.get(0).path("auth")).isEqualTo(objectMapper.readTree(API_KEY));
+		assertThat(folders.get(0).path("variable").get(0).path("value").asText()).isEqualTo("http://admin");
+		assertThat(folders.get(1).has("auth")).isFalse();
+		assertThat(folders.get(1).path("variable").get(0).path("value").asText()).isEqualTo("http://gateway");
+		assertThat(folders.get(2).path("item")).extracting(item -> item.path("name").asText())
+				.containsExactly("item0", "item1");
+	}
+
+	@Test
+	void onlyVariablesAllServicesAgreeOnAreHoisted() throws Exception {
+		Path orders = write("orders.json", null, "{\"key\":\"baseUrl\",\"value\":\"http://gateway\"},"
+				+ "{\"key\":\"tenant\",\"value\":\"acme\"}", "{\"method\":\"GET\",\"url\":\"{{baseUrl}}/orders\"}");
+		Path billing = write("billing.json", null, "{\"key\":\"baseUrl\",\"value\":\"http://gateway\"},"
+				+ "{\"key\":\"region\",\"value\":\"eu\"}", "{\"method\":\"GET\",\"url\":\"{{baseUrl}}/invoices\"}");
+		Path output = tempDir.resolve("platform.json");
+
+		aggregator.aggregate("Platform API", List.of(AggregationInput.of(orders), AggregationInput.of(billing)), output);
+
+		JsonNode collection = objectMapper.readTree(output.toFile());
+		assertThat(collection.path("variable")).extracting(variable -> variable.path("key").asText())
+				.containsExactly("baseUrl");
+		JsonNode folders = collection.path("item");
+		assertThat(folders.get(0).path("variable")).extracting(variable -> variable.path("key").asText())
+				.containsExactly("region");
+		assertThat(folders.get(1).path("variable")).extracting(variable -> variable.path("key").asText())
+				.containsExactly("tenant");
+	}
+
+	@Test
+	void snapshotsOfOneServiceAreMergedWithoutDuplicates() throws Exception {
+		Path first = write("first.json", null, null,
+				"{\"method\":\"GET\",\"url\":\"{{baseUrl}}/a\"}", "{\"method\":\"GET\",\"url\":\"{{baseUrl}}/c\"}");
+		Path second = write("second.json", null, null,
+				"{\"method\":\"GET\",\"url\":\"{{baseUrl}}/b\"}", "{\"method\":\"GET\",\"url\":\"{{baseUrl}}/c\"}");
+		Path output = tempDir.resolve("merged.json");
+
+		aggregator.aggregate("Orders", List.of(new AggregationInput("orders", first),
+				new AggregationInput("orders", second)), output);
+
+		JsonNode folders = objectMapper.readTree(output.toFile()).path("item");
+		assertThat(folders).hasSize(1);
+		assertThat(folders.get(0).path("item")).extracting(item -> item.path("request").path("url").asText())
+				.containsExactly("{{baseUrl}}/a", "{{baseUrl}}/b", "{{baseUrl}}/c");
+		assertThat(folders.get(0).has("auth")).isFalse();
+	}
+
+	@Test
+	void unsortedInputIsRejectedWithoutTouchingTheOutput() throws Exception {
+		Path unsorted = write("orders.json", null, null,
+				"{\"method\":\"GET\",\"url\":\"{{baseUrl}}/b\"}", "{\"method\":\"GET\",\"url\":\"{{baseUrl}}/a\"}");
+		Path output = tempDir.resolve("platform.json");
+
+		assertThatThrownBy(() -> aggregator.aggregate("Platform API", List.of(AggregationInput.of(unsorted)), output))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("not sorted");
+		assertThat(output).doesNotExist();
+		try (var files = Files.list(tempDir)) {
+			assertThat(files).containsExactly(unsorted);
+		}
+	}
+
+	@Test
+	void folderAuthAndScriptsAreFoldedIntoTheirItems() throws Exception {
+		String outerEvent = "{\"listen\":\"prerequest\",\"script\":{\"type\":\"text/javascript\",\"exec\":[\"outer\"]}}";
+		String innerEvent = "{\"listen\":\"prerequest\",\"script\":{\"type\":\"text/javascript\",\"exec\":[\"inner\"]}}";
+		String ownEvent = "{\"listen\":\"test\",\"script\":{\"type\":\"text/javascript\",\"exec\":[\"own\"]}}";
+		Path input = tempDir.resolve("orders.json");
+		Files.writeString(input, "{\"info\":{\"name\":\"orders\"},\"item\":[{\"name\":\"outer\",\"item\":["
+				+ "{\"name\":\"inner\",\"auth\":" + API_KEY + ",\"event\":[" + innerEvent + "],\"item\":["
+				+ "{\"name\":\"a\",\"request\":{\"method\":\"GET\",\"url\":\"{{baseUrl}}/a\"},\"event\":[" + ownEvent + "]},"
+				+ "{\"name\":\"b\",\"request\":{\"method\":\"GET\",\"url\":\"{{baseUrl}}/b\",\"auth\":null},"
+				+ "\"auth\":{\"type\":\"noauth\"}}]},"
+				+ "{\"name\":\"c\",\"request\":{\"method\":\"GET\",\"url\":\"{{baseUrl}}/c\"}}],"
+				+ "\"auth\":" + BEARER + ",\"event\":[" + outerEvent + "],"
+				+ "\"variable\":[{\"key\":\"tenant\",\"value\":\"acme\"}]}]}");
+		Path output = tempDir.resolve("platform.json");
+
+		aggregator.aggregate("Platform API", List.of(AggregationInput.of(input)), output);
+
+		JsonNode items = objectMapper.readTree(output.toFile()).path("item").get(0).path("item");
+		assertThat(items).extracting(item -> item.path("name").asText()).containsExactly("a", "b", "c");
+		assertThat(items.get(0).path("auth")).isEqualTo(objectMapper.readTree(API_KEY));
+		assertThat(items.get(0).path("event")).containsExactly(objectMapper.readTree(outerEvent),
+				objectMapper.readTree(innerEvent), objectMapper.readTree(ownEvent));
+		assertThat(items.get(1).path("auth").path("type").asText()).isEqualTo("noauth");
+		assertThat(items.get(1).path("event")).hasSize(2);
+		assertThat(items.get(2).path("auth")).isEqualTo(objectMapper.readTree(BEARER));
+		assertThat(items.get(2).path("event")).containsExactly(objectMapper.readTree(outerEvent));
+		assertThat(items.get(2).has("variable")).isFalse();
+	}
+
+	/**
+	 * Write a collection whose items are nested in a folder, to check that folders are flattened.
+	 */
+	private Path write(String fileName, String auth, String variable, String... requests) throws IOException {
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < requests.length; i++) {
+			items.add("{\"name\":\"item" + i + "\",\"request\":" + requests[i] + "}");
+		}
+		StringBuilder json = new StringBuilder("{\"info\":{\"name\":\"" + fileName + "\"},");
+		json.append("\"item\":[{\"name\":\"folder\",\"item\":[").append(String.join(",", items))
+				.append("],\"description\":\"skipped\"}]");
+		if (auth != null) {
+			json.append(",\"auth\":").append(auth);
+		}
+		if (variable != null) {
+			json.append(",\"variable\":[").append(variable).append("]");
+		}
+		Path path = tempDir.resolve(fileName);
+		Files.writeString(path, json.append("}").toString());
+		return path;
+	}
+}